@@ -0,0 +1,50 @@
+package com.api.tests.benchmarks;
+
+import com.api.tests.client.ApiClient;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.models.Book;
+import com.api.tests.server.LocalApiServer;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Full ApiClient round trips against the in-process LocalApiServer, so the numbers are
+ * framework overhead (spec handling, RestAssured filters, mapping) plus loopback HTTP only.
+ */
+@State(Scope.Benchmark)
+public class ApiClientBenchmark {
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        System.setProperty("base.url", "local");
+        // Outside TestNG there is no test to attach to, and Allure's error path would dominate
+        System.setProperty("allure.reporting.enabled", "false");
+        LocalApiServer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        LocalApiServer.stop();
+    }
+
+    @Benchmark
+    public Response getBookById() {
+        return ApiClient.get(ApiEndpoint.BOOKS_BY_ID, 1, 200);
+    }
+
+    @Benchmark
+    public Book[] getAllBooksMapped() {
+        return ApiClient.get(ApiEndpoint.BOOKS, Book[].class);
+    }
+
+    @Benchmark
+    public Response getBookByIdWithColdSpecification() {
+        ApiClient.resetSpecifications();
+        return ApiClient.get(ApiEndpoint.BOOKS_BY_ID, 1, 200);
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.tests.benchmarks;
+
+import com.api.tests.enums.ApiEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Path building done for every request
+ */
+@State(Scope.Thread)
+public class ApiEndpointBenchmark {
+    private int id;
+
+    @Benchmark
+    public String withId() {
+        return ApiEndpoint.BOOKS_BY_ID.withId(++id);
+    }
+
+    @Benchmark
+    public String getResource() {
+        return ApiEndpoint.AUTHORS_BY_ID.getResource();
+    }
+}
@@ -0,0 +1,102 @@
+package com.api.tests.benchmarks;
+
+import com.api.tests.client.RequestBodies;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.utils.MapperRegistry;
+import com.api.tests.validation.SchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Jackson mapping of collection responses, purely in memory: a default ObjectMapper as the baseline
+ * against the framework's MapperRegistry (Blackbird, pre-built readers and writers)
+ */
+@State(Scope.Benchmark)
+public class JsonMappingBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"200"})
+    public int books;
+
+    @Param({"600"})
+    public int authors;
+
+    private byte[] booksJson;
+    private byte[] authorsJson;
+    private Book[] bookArray;
+    private JsonNode booksTree;
+
+    @Setup
+    public void createPayloads() throws IOException {
+        bookArray = new Book[books];
+        for (int i = 0; i < books; i++) {
+            bookArray[i] = Book.builder().id(i + 1).title("Book " + (i + 1))
+                    .description("lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor.")
+                    .pageCount(100 + i).excerpt("lorem ipsum dolor sit amet ".repeat(8))
+                    .publishDate("2023-06-01T00:00:00Z").build();
+        }
+        Author[] authorArray = new Author[authors];
+        for (int i = 0; i < authors; i++) {
+            authorArray[i] = Author.builder().id(i + 1).idBook(1 + i % books)
+                    .firstName("First Name " + (i + 1)).lastName("Last Name " + (i + 1)).build();
+        }
+        booksJson = objectMapper.writeValueAsBytes(bookArray);
+        authorsJson = objectMapper.writeValueAsBytes(authorArray);
+        booksTree = objectMapper.readTree(booksJson);
+    }
+
+    @Benchmark
+    public Book[] readBooks() throws IOException {
+        return objectMapper.readValue(booksJson, Book[].class);
+    }
+
+    @Benchmark
+    public Author[] readAuthors() throws IOException {
+        return objectMapper.readValue(authorsJson, Author[].class);
+    }
+
+    @Benchmark
+    public Book[] readBooksWithRegistry() throws IOException {
+        return MapperRegistry.reader(Book[].class).readValue(booksJson);
+    }
+
+    @Benchmark
+    public Author[] readAuthorsWithRegistry() throws IOException {
+        return MapperRegistry.reader(Author[].class).readValue(authorsJson);
+    }
+
+    @Benchmark
+    public JsonNode validateBooks() {
+        SchemaValidator.validate(ApiEndpoint.BOOKS, booksTree);
+        return booksTree;
+    }
+
+    @Benchmark
+    public byte[] writeBooks() throws IOException {
+        return objectMapper.writeValueAsBytes(bookArray);
+    }
+
+    @Benchmark
+    public byte[] writeBooksWithRegistry() throws IOException {
+        return MapperRegistry.writer(Book[].class).writeValueAsBytes(bookArray);
+    }
+
+    @Benchmark
+    public byte[] writeBookBody() throws IOException {
+        return objectMapper.writeValueAsBytes(bookArray[0]);
+    }
+
+    @Benchmark
+    public byte[] cachedBookBody() {
+        return RequestBodies.toBytes(bookArray[0]);
+    }
+}
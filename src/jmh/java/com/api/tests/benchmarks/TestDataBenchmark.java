@@ -0,0 +1,73 @@
+package com.api.tests.benchmarks;
+
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.snapshot.BookView;
+import com.api.tests.utils.JsonDataReader;
+import com.api.tests.utils.TestDataGenerator;
+import com.api.tests.utils.TestDataRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Test data loading and generation as the data providers use it. Valid books come from their snapshot,
+ * the other reads hit the TestDataRepository cache; parseValidBooksJson is what the snapshot saves.
+ */
+@State(Scope.Benchmark)
+public class TestDataBenchmark {
+
+    @Benchmark
+    public List<Book> readValidBooks() {
+        return JsonDataReader.readValidBooks();
+    }
+
+    @Benchmark
+    public List<Book> parseValidBooksJson() throws IOException {
+        TestDataRepository.invalidate("validBooks.json");
+        return TestDataRepository.get("validBooks.json", new TypeReference<List<Book>>() {});
+    }
+
+    @Benchmark
+    public long sumMappedPageCounts() {
+        long pages = 0;
+        for (BookView book : JsonDataReader.mapValidBooks()) {
+            pages += book.getPageCount();
+        }
+        return pages;
+    }
+
+    @Benchmark
+    public List<JsonDataReader.InvalidTestData<Author>> readInvalidAuthors() {
+        return JsonDataReader.readInvalidAuthors();
+    }
+
+    @Benchmark
+    public JsonDataReader.ValidationData readValidationData() {
+        return JsonDataReader.readValidationData();
+    }
+
+    @Benchmark
+    public Book generateRandomBook() {
+        return TestDataGenerator.generateRandomBook();
+    }
+
+    @Benchmark
+    public Author generateRandomAuthor() {
+        return TestDataGenerator.generateRandomAuthor(1);
+    }
+
+    @Benchmark
+    public String generateRandomName() {
+        return TestDataGenerator.generateRandomName();
+    }
+
+    @Benchmark
+    public String generateRandomBookTitle() {
+        return TestDataGenerator.generateRandomBookTitle();
+    }
+}
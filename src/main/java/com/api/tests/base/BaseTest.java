@@ -1,12 +1,33 @@
 package com.api.tests.base;
 
+import com.api.tests.client.ApiClient;
+import com.api.tests.config.ConfigManager;
+import com.api.tests.server.LocalApiServer;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.helpers.MessageFormatter;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeSuite;
 
 @Slf4j
 public abstract class BaseTest {
 
+    @BeforeSuite(alwaysRun = true)
+    public void setupSuite() {
+        if (ConfigManager.isLocalServer()) {
+            LocalApiServer.start();
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void teardownSuite() {
+        ApiClient.getResponseCache().ifPresent(cache -> log.info("Response cache: {}", cache.stats()));
+        if (ConfigManager.isLocalServer()) {
+            LocalApiServer.stop();
+        }
+    }
+
     @BeforeClass
     public void setupClass() {
         log.info("Setting up test class: {}", this.getClass().getSimpleName());
@@ -17,7 +38,12 @@ public abstract class BaseTest {
         log.info("Cleaning up test class: {}", this.getClass().getSimpleName());
     }
 
-    protected void logTestInfo(String testName, String description) {
-        log.info("Starting test: {} - {}", testName, description);
+    /**
+     * @param description SLF4J-style pattern, e.g. "Retrieve book by ID: {}"; only formatted when INFO is on
+     */
+    protected void logTestInfo(String testName, String description, Object... args) {
+        if (log.isInfoEnabled()) {
+            log.info("Starting test: {} - {}", testName, MessageFormatter.basicArrayFormat(description, args));
+        }
     }
 }
\ No newline at end of file
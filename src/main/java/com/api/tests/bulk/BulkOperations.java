@@ -0,0 +1,72 @@
+package com.api.tests.bulk;
+
+import com.api.tests.client.AsyncApiClient;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.utils.JsonDataReader.BulkTestData;
+import com.api.tests.utils.TestDataGenerator;
+
+import java.util.Iterator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * The bulkTestData scenarios as {@link BulkPipeline}s: create or verify one entity per row
+ */
+public class BulkOperations {
+
+    /**
+     * POST /Authors for every row and check the echoed author
+     */
+    public static BulkResult createAuthors(Iterator<BulkTestData> rows) {
+        return new BulkPipeline<BulkTestData, Author>("POST /Authors",
+                row -> AsyncApiClient.post(ApiEndpoint.AUTHORS, toAuthor(row), 200, Author.class),
+                (row, created) -> {
+                    assertNotNull(created);
+                    assertEquals(created.getFirstName(), row.getAuthorFirstName());
+                    assertEquals(created.getLastName(), row.getAuthorLastName());
+                    assertEquals(created.getIdBook(), row.getBookId());
+                }).run(rows);
+    }
+
+    /**
+     * POST /Books with each row's title (other fields generated) and check the echoed book
+     */
+    public static BulkResult createBooks(Iterator<BulkTestData> rows) {
+        return new BulkPipeline<BulkTestData, Book>("POST /Books",
+                row -> AsyncApiClient.post(ApiEndpoint.BOOKS, toBook(row), 200, Book.class),
+                (row, created) -> {
+                    assertNotNull(created);
+                    assertEquals(created.getTitle(), row.getBookTitle());
+                }).run(rows);
+    }
+
+    /**
+     * GET /Books/{bookId} for every row and check the book exists
+     */
+    public static BulkResult verifyBooks(Iterator<BulkTestData> rows) {
+        return new BulkPipeline<BulkTestData, Book>("GET /Books/{id}",
+                row -> AsyncApiClient.get(ApiEndpoint.BOOKS_BY_ID, row.getBookId(), 200, Book.class),
+                (row, book) -> {
+                    assertNotNull(book);
+                    assertEquals(book.getId(), row.getBookId());
+                }).run(rows);
+    }
+
+    private static Author toAuthor(BulkTestData row) {
+        return Author.builder()
+                .id(0)
+                .idBook(row.getBookId())
+                .firstName(row.getAuthorFirstName())
+                .lastName(row.getAuthorLastName())
+                .build();
+    }
+
+    private static Book toBook(BulkTestData row) {
+        Book book = TestDataGenerator.generateRandomBook();
+        book.setTitle(row.getBookTitle());
+        return book;
+    }
+}
@@ -0,0 +1,110 @@
+package com.api.tests.bulk;
+
+import com.api.tests.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Pushes a stream of rows through an async request with at most {@code maxInFlight} requests outstanding.
+ * The next row is pulled from the source only once a slot is free, so a lazy source (a streamed file,
+ * a snapshot, a generator) is never read ahead of the server. Each response is verified on the thread
+ * that completes it, and the outcome is counted in a {@link BulkResult}.
+ */
+@Slf4j
+public final class BulkPipeline<T, R> {
+    private final String name;
+    private final Function<T, CompletableFuture<R>> request;
+    private final BiConsumer<T, R> verifier;
+    private final int maxInFlight;
+
+    /**
+     * @param name label for logs and the report, e.g. "POST /Authors"
+     * @param request starts the request for one row
+     * @param verifier asserts on the row and its response; throw to fail the row
+     * @param maxInFlight upper bound on concurrent requests
+     */
+    public BulkPipeline(String name, Function<T, CompletableFuture<R>> request, BiConsumer<T, R> verifier, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, was " + maxInFlight);
+        }
+        this.name = name;
+        this.request = request;
+        this.verifier = verifier;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public BulkPipeline(String name, Function<T, CompletableFuture<R>> request, BiConsumer<T, R> verifier) {
+        this(name, request, verifier, ConfigManager.getBulkMaxInFlight());
+    }
+
+    /**
+     * Run every row and wait for the last response
+     * @return counts, throughput and the first failures; call {@link BulkResult#assertAllSucceeded()} to fail the test
+     */
+    public BulkResult run(Iterator<T> rows) {
+        BulkResult result = new BulkResult(name, ConfigManager.getBulkMaxReportedFailures());
+        Semaphore slots = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+
+        try {
+            for (long index = 0; ; index++) {
+                slots.acquire();
+                T row;
+                try {
+                    if (!rows.hasNext()) {
+                        slots.release();
+                        break;
+                    }
+                    row = rows.next();
+                } catch (RuntimeException e) {
+                    // A streamed source that fails once can't be trusted to go on, so stop reading it
+                    // and still wait below for the requests already in flight
+                    result.failed("row " + index + " (unreadable)", e);
+                    slots.release();
+                    break;
+                }
+                CompletableFuture<R> pending;
+                try {
+                    pending = request.apply(row);
+                } catch (RuntimeException | AssertionError e) {
+                    result.failed(row, e);
+                    slots.release();
+                    continue;
+                }
+                pending.whenComplete((response, error) -> {
+                    try {
+                        if (error != null) {
+                            result.failed(row, unwrap(error));
+                        } else {
+                            verifier.accept(row, response);
+                            result.succeeded();
+                        }
+                    } catch (RuntimeException | AssertionError e) {
+                        result.failed(row, e);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+            // Every slot back means every request has been verified
+            slots.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} interrupted after {} rows", name, result.getTotal());
+        }
+
+        result.finish(System.nanoTime() - start);
+        log.info("{}", result);
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
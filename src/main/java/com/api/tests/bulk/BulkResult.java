@@ -0,0 +1,101 @@
+package com.api.tests.bulk;
+
+import com.api.tests.config.ConfigManager;
+import io.qameta.allure.Allure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of a {@link BulkPipeline} run. Only the first failures keep their row and error,
+ * so a run with 100k broken rows doesn't hold 100k stack traces.
+ */
+public class BulkResult {
+    private final String name;
+    private final int maxReportedFailures;
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger reportedFailures = new AtomicInteger();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private volatile long durationNanos;
+
+    BulkResult(String name, int maxReportedFailures) {
+        this.name = name;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    void succeeded() {
+        succeeded.increment();
+    }
+
+    void failed(Object row, Throwable error) {
+        failed.increment();
+        if (reportedFailures.incrementAndGet() <= maxReportedFailures) {
+            failures.add(row + ": " + error);
+        }
+    }
+
+    void finish(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTotal() {
+        return getSucceeded() + getFailed();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public double getThroughput() {
+        return durationNanos == 0 ? 0 : getTotal() / (durationNanos / 1e9);
+    }
+
+    /**
+     * @return row and error of the first failures, at most bulk.max.reported.failures of them
+     */
+    public List<String> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    /**
+     * Attach the summary to the current Allure test, then fail it if any row failed.
+     * Call it from the test thread, as Allure attachments belong to the thread's running test.
+     */
+    public void assertAllSucceeded() {
+        if (ConfigManager.isAllureReportingEnabled()) {
+            Allure.addAttachment(name + " bulk result", "text/plain", describe());
+        }
+        if (getFailed() > 0) {
+            throw new AssertionError(describe());
+        }
+    }
+
+    private String describe() {
+        StringBuilder text = new StringBuilder(toString());
+        List<String> firstFailures = getFailures();
+        if (!firstFailures.isEmpty()) {
+            text.append(System.lineSeparator()).append("First ").append(firstFailures.size()).append(" failures:");
+            firstFailures.forEach(failure -> text.append(System.lineSeparator()).append("  ").append(failure));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d rows, %d succeeded, %d failed in %.1f s (%.0f rows/s)",
+                name, getTotal(), getSucceeded(), getFailed(), durationNanos / 1e9, getThroughput());
+    }
+}
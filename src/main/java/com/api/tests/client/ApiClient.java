@@ -2,112 +2,354 @@ package com.api.tests.client;
 
 import com.api.tests.config.ConfigManager;
 import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.logging.FailureLogFilter;
+import com.api.tests.metrics.LatencyRecorder;
+import com.api.tests.reporting.AllureExchangeFilter;
+import com.api.tests.resilience.Resilience;
+import com.api.tests.resilience.Throttle;
+import com.api.tests.utils.MapperRegistry;
+import com.api.tests.validation.SchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 public class ApiClient {
 
+    // Pre-built specs, one per endpoint family (/Books, /Authors) and one per expected status
+    private static final Map<String, RequestSpecification> requestSpecs = new ConcurrentHashMap<>();
+    private static final Map<Integer, ResponseSpecification> responseSpecs = new ConcurrentHashMap<>();
+    // Stateless between requests (attachments go to the calling thread's Allure context), so one instance is shared
+    private static final AllureExchangeFilter allureFilter = new AllureExchangeFilter();
+    private static final FailureLogFilter failureLogFilter = new FailureLogFilter();
+    private static final List<ExchangeListener> exchangeListeners = new CopyOnWriteArrayList<>();
+    private static final LatencyRecorder latencyRecorder = new LatencyRecorder();
+    // Resolved on the first request, since with base.url=local the server publishes its address when it starts
+    private static volatile String baseUrl;
+    // Opt-in, see http.cache.*; null when off
+    private static final ResponseCache<Response> responseCache = ConfigManager.isResponseCacheEnabled()
+            ? new ResponseCache<>(ConfigManager.getResponseCacheTtlMillis(), ConfigManager.getResponseCacheMaxEntries(),
+                    Response::statusCode, response -> response.getHeader("ETag"))
+            : null;
+
+    static {
+        if (ConfigManager.isMetricsEnabled()) {
+            exchangeListeners.add(latencyRecorder);
+        }
+    }
+
     public static Response get(ApiEndpoint endpoint) {
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .when()
-                .get(endpoint.getPath());
+        return send(endpoint, Method.GET, endpoint.getPath(), null);
     }
 
     public static Response get(ApiEndpoint endpoint, Object id) {
-        String path = endpoint.withId(id);
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .when()
-                .get(path);
+        return send(endpoint, Method.GET, endpoint.withId(id), null);
     }
 
     public static Response get(ApiEndpoint endpoint, int expectedStatusCode) {
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .when()
-                .get(endpoint.getPath())
-                .then()
-                .statusCode(expectedStatusCode)
-                .extract().response();
+        return verify(get(endpoint), expectedStatusCode);
     }
 
     public static Response get(ApiEndpoint endpoint, Object id, int expectedStatusCode) {
-        String path = endpoint.withId(id);
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .when()
-                .get(path)
-                .then()
-                .statusCode(expectedStatusCode)
-                .extract().response();
+        return verify(get(endpoint, id), expectedStatusCode);
     }
 
     public static <T> T get(ApiEndpoint endpoint, Class<T> responseClass) {
         Response response = get(endpoint);
-        return response.as(responseClass);
+        return as(endpoint, response, responseClass);
     }
 
     public static <T> T get(ApiEndpoint endpoint, Object id, Class<T> responseClass) {
         Response response = get(endpoint, id);
-        return response.as(responseClass);
+        return as(endpoint, response, responseClass);
     }
 
     public static <T> T get(ApiEndpoint endpoint, Object id, int expectedStatusCode, Class<T> responseClass) {
         Response response = get(endpoint, id, expectedStatusCode);
-        return response.as(responseClass);
+        return as(endpoint, response, responseClass);
+    }
+
+    /**
+     * Stream the elements of a collection response (GET /Books, GET /Authors) as they are parsed off the socket,
+     * instead of buffering the whole body and array. The stream holds a pooled connection, so close it:
+     * <pre>try (Stream&lt;Author&gt; authors = ApiClient.stream(ApiEndpoint.AUTHORS, 200, Author.class)) { ... }</pre>
+     * The request goes through the same throttle, retries and circuit breaker as every other call, and closing the
+     * stream reports the exchange to Allure and the failure log with the start of its body. It is never cached.
+     * @param endpoint a collection endpoint returning a JSON array
+     * @param expectedStatusCode status the response must have
+     * @param elementClass type of the array elements
+     * @return the elements in response order
+     */
+    public static <T> Stream<T> stream(ApiEndpoint endpoint, int expectedStatusCode, Class<T> elementClass) {
+        String url = baseUrl() + endpoint.getPath();
+        StreamedExchange exchange = Resilience.execute(endpoint, "GET", () -> streamOnce(endpoint, url, expectedStatusCode),
+                StreamedExchange::getStatusCode, response -> response.getHeader("Retry-After"), StreamedExchange::discard);
+        if (exchange.getStatusCode() != expectedStatusCode) {
+            throw new AssertionError(String.format("Expected status code <%d> but was <%d> for GET %s: %s",
+                    expectedStatusCode, exchange.getStatusCode(), url, exchange.getFullBody()));
+        }
+
+        Consumer<JsonNode> elementCheck = SchemaValidator.isEnabled()
+                ? element -> SchemaValidator.validateElement(endpoint, element)
+                : null;
+        try {
+            return new StreamingResponse<T>(exchange, MapperRegistry.reader(elementClass), elementCheck).stream();
+        } catch (IOException e) {
+            exchange.discard();
+            throw new UncheckedIOException("Failed to read response of GET " + url, e);
+        }
     }
 
     public static Response post(ApiEndpoint endpoint, Object requestBody, int expectedStatusCode) {
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .body(requestBody)
-                .when()
-                .post(endpoint.getPath())
-                .then()
-                .statusCode(expectedStatusCode)
-                .extract().response();
+        return verify(send(endpoint, Method.POST, endpoint.getPath(), requestBody), expectedStatusCode);
     }
 
     public static <T> T post(ApiEndpoint endpoint, Object requestBody, int expectedStatusCode, Class<T> responseClass) {
         Response response = post(endpoint, requestBody, expectedStatusCode);
-        return response.as(responseClass);
+        return as(endpoint, response, responseClass);
     }
 
     public static Response put(ApiEndpoint endpoint, Object id, Object requestBody, int expectedStatusCode) {
-        String path = endpoint.withId(id);
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .body(requestBody)
-                .when()
-                .put(path)
-                .then()
-                .statusCode(expectedStatusCode)
-                .extract().response();
+        return verify(send(endpoint, Method.PUT, endpoint.withId(id), requestBody), expectedStatusCode);
     }
 
     public static <T> T put(ApiEndpoint endpoint, Object id, Object requestBody, int expectedStatusCode, Class<T> responseClass) {
         Response response = put(endpoint, id, requestBody, expectedStatusCode);
-        return response.as(responseClass);
+        return as(endpoint, response, responseClass);
     }
 
     public static Response delete(ApiEndpoint endpoint, Object id, int expectedStatusCode) {
-        String path = endpoint.withId(id);
-        return RestAssured.given()
-                .baseUri(ConfigManager.getBaseUrl())
-                .header("Content-Type", "application/json")
-                .when()
-                .delete(path)
-                .then()
-                .statusCode(expectedStatusCode)
+        return verify(send(endpoint, Method.DELETE, endpoint.withId(id), null), expectedStatusCode);
+    }
+
+    public static void addExchangeListener(ExchangeListener listener) {
+        exchangeListeners.add(listener);
+    }
+
+    public static void removeExchangeListener(ExchangeListener listener) {
+        exchangeListeners.remove(listener);
+    }
+
+    /**
+     * @return the per-endpoint latency histograms of every ApiClient and AsyncApiClient call
+     */
+    public static LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    static void notifyExchange(ApiEndpoint endpoint, String method, int statusCode, long durationNanos) {
+        for (ExchangeListener listener : exchangeListeners) {
+            listener.onExchange(endpoint, method, statusCode, durationNanos);
+        }
+    }
+
+    /**
+     * @return the GET response cache, when http.cache.enabled is on
+     */
+    public static Optional<ResponseCache<Response>> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    /**
+     * @return the base URL every ApiClient and AsyncApiClient request goes to, looked up once
+     */
+    static String baseUrl() {
+        String url = baseUrl;
+        if (url == null) {
+            url = ConfigManager.getBaseUrl();
+            baseUrl = url;
+        }
+        return url;
+    }
+
+    /**
+     * Drop the cached responses a write to {@code path} made stale; called by ApiClient and AsyncApiClient after every
+     * POST, PUT and DELETE, whatever its outcome, since a failed or timed out write may still have reached the server
+     */
+    static void invalidateCache(ApiEndpoint endpoint, String path) {
+        if (responseCache != null) {
+            responseCache.invalidate(endpoint.getResource(), path);
+        }
+    }
+
+    /**
+     * Drop the cached specifications so the next request picks up a changed base URL or pool setting
+     */
+    public static void resetSpecifications() {
+        baseUrl = null;
+        requestSpecs.clear();
+        responseSpecs.clear();
+    }
+
+    // With the response cache on, GETs are read through it and every write invalidates what it made stale
+    private static Response send(ApiEndpoint endpoint, Method method, String path, Object requestBody) {
+        if (responseCache == null) {
+            return send(endpoint, method, path, requestBody, null);
+        }
+        if (method == Method.GET) {
+            return responseCache.get(endpoint.getResource(), path, etag -> send(endpoint, method, path, null, etag));
+        }
+        try {
+            return send(endpoint, method, path, requestBody, null);
+        } finally {
+            invalidateCache(endpoint, path);
+        }
+    }
+
+    // Every request goes through the endpoint's circuit breaker and the retry policy; see Resilience
+    private static Response send(ApiEndpoint endpoint, Method method, String path, Object requestBody, String ifNoneMatch) {
+        return Resilience.execute(endpoint, method.name(), () -> sendOnce(endpoint, method, path, requestBody, ifNoneMatch),
+                Response::statusCode, response -> response.getHeader("Retry-After"));
+    }
+
+    private static Response sendOnce(ApiEndpoint endpoint, Method method, String path, Object requestBody, String ifNoneMatch) {
+        RequestSpecification request = RestAssured.given(requestSpec(endpoint));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        if (requestBody != null) {
+            request.body(RequestBodies.toBytes(requestBody));
+        }
+
+        // Latency is measured from when the throttle lets the request go
+        Throttle.Permit permit = Throttle.acquire(endpoint);
+        try {
+            return exchange(endpoint, method, path, request);
+        } finally {
+            permit.close();
+        }
+    }
+
+    // An unexpected status has its body read at once, so a response that gets retried or fails the call
+    // doesn't keep its connection and throttle permit
+    private static StreamedExchange streamOnce(ApiEndpoint endpoint, String url, int expectedStatusCode) {
+        HttpGet request = new HttpGet(url);
+        request.setHeader("Accept", "application/json");
+
+        Throttle.Permit permit = Throttle.acquire(endpoint);
+        long start = System.nanoTime();
+        CloseableHttpResponse response;
+        try {
+            response = execute(request);
+        } catch (IOException e) {
+            permit.close();
+            notifyExchange(endpoint, "GET", 0, System.nanoTime() - start);
+            throw new UncheckedIOException("GET " + url + " failed", e);
+        }
+        // Time to response headers: the body is still on its way when the caller starts consuming it
+        StreamedExchange exchange = new StreamedExchange(request, response, permit);
+        notifyExchange(endpoint, "GET", exchange.getStatusCode(), System.nanoTime() - start);
+
+        if (exchange.getStatusCode() != expectedStatusCode) {
+            try {
+                exchange.readFully();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read response of GET " + url, e);
+            }
+        }
+        return exchange;
+    }
+
+    // On the pooled connections like RestAssured's requests, or without the pool a client and connection of its own
+    @SuppressWarnings("deprecation")
+    private static CloseableHttpResponse execute(HttpGet request) throws IOException {
+        if (ConfigManager.isConnectionPoolEnabled()) {
+            return HttpConnectionPool.execute(request);
+        }
+        HttpConnectionParams.setSoTimeout(request.getParams(), ConfigManager.getReadTimeoutMillis());
+        HttpConnectionParams.setConnectionTimeout(request.getParams(), ConfigManager.getConnectTimeoutMillis());
+        request.setHeader("Connection", "close");
+        return new DefaultHttpClient().execute(request);
+    }
+
+    private static Response exchange(ApiEndpoint endpoint, Method method, String path, RequestSpecification request) {
+        long start = System.nanoTime();
+        try {
+            Response response = request.when().request(method, path);
+            notifyExchange(endpoint, method.name(), response.statusCode(), System.nanoTime() - start);
+            return response;
+        } catch (Exception e) {
+            // Includes the IOExceptions RestAssured throws without declaring them
+            notifyExchange(endpoint, method.name(), 0, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    // Straight from the body bytes with the pre-built reader, skipping RestAssured's per-call mapper lookup.
+    // Successful responses are parsed to a tree once, checked against the schema and mapped from that tree.
+    private static <T> T as(ApiEndpoint endpoint, Response response, Class<T> responseClass) {
+        ObjectReader reader = MapperRegistry.reader(responseClass);
+        try {
+            if (SchemaValidator.isEnabled() && response.statusCode() / 100 == 2) {
+                JsonNode body = reader.readTree(response.asByteArray());
+                SchemaValidator.validate(endpoint, body);
+                return reader.readValue(body);
+            }
+            return reader.readValue(response.asByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map response to " + responseClass.getSimpleName(), e);
+        }
+    }
+
+    private static Response verify(Response response, int expectedStatusCode) {
+        return response.then()
+                .spec(responseSpec(expectedStatusCode))
                 .extract().response();
     }
-}
\ No newline at end of file
+
+    private static RequestSpecification requestSpec(ApiEndpoint endpoint) {
+        return requestSpecs.computeIfAbsent(endpoint.getResource(), resource -> {
+            RequestSpecBuilder builder = new RequestSpecBuilder()
+                    .setBaseUri(baseUrl())
+                    .addHeader("Content-Type", "application/json");
+            if (ConfigManager.isAllureReportingEnabled()) {
+                builder.addFilter(allureFilter);
+            }
+            if (ConfigManager.isLoggingEnabled()) {
+                builder.addFilter(failureLogFilter);
+            }
+            HttpClientConfig httpClientConfig = ConfigManager.isConnectionPoolEnabled()
+                    ? HttpConnectionPool.httpClientConfig()
+                    : HttpClientConfig.httpClientConfig();
+            builder.setConfig(RestAssuredConfig.config().httpClient(withTimeouts(httpClientConfig)));
+            log.debug("Built request specification for {}", resource);
+            return builder.build();
+        });
+    }
+
+    @SuppressWarnings("deprecation")
+    private static HttpClientConfig withTimeouts(HttpClientConfig config) {
+        return config
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, ConfigManager.getConnectTimeoutMillis())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, ConfigManager.getReadTimeoutMillis());
+    }
+
+    private static ResponseSpecification responseSpec(int expectedStatusCode) {
+        return responseSpecs.computeIfAbsent(expectedStatusCode,
+                status -> new ResponseSpecBuilder().expectStatusCode(status).build());
+    }
+}
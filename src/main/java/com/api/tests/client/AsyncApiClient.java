@@ -0,0 +1,202 @@
+package com.api.tests.client;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.logging.FailureLog;
+import com.api.tests.reporting.AllureExchangeReporter;
+import com.api.tests.reporting.HttpExchange;
+import com.api.tests.resilience.Throttle;
+import com.api.tests.utils.MapperRegistry;
+import com.api.tests.utils.VirtualThreads;
+import com.api.tests.validation.SchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Non-blocking counterpart of {@link ApiClient} built on the JDK HttpClient.
+ * Every method returns immediately, so independent requests can be fired together and joined.
+ */
+@Slf4j
+public class AsyncApiClient {
+    // Jackson mapping runs here rather than on the HttpClient's I/O threads
+    private static final Executor mappingExecutor = VirtualThreads.isEnabled()
+            ? VirtualThreads.newThreadPerTaskExecutor("async-mapping-vt-")
+            : ForkJoinPool.commonPool();
+    private static final HttpClient httpClient = createHttpClient();
+    private static final boolean failureLogEnabled = ConfigManager.isLoggingEnabled();
+    private static final boolean allureEnabled = ConfigManager.isAllureReportingEnabled();
+
+    public static CompletableFuture<HttpResponse<byte[]>> get(ApiEndpoint endpoint) {
+        return send(endpoint, "GET", endpoint.getPath(), null);
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> get(ApiEndpoint endpoint, Object id) {
+        return send(endpoint, "GET", endpoint.withId(id), null);
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> get(ApiEndpoint endpoint, int expectedStatusCode) {
+        return get(endpoint).thenApply(response -> verify(response, expectedStatusCode));
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> get(ApiEndpoint endpoint, Object id, int expectedStatusCode) {
+        return get(endpoint, id).thenApply(response -> verify(response, expectedStatusCode));
+    }
+
+    public static <T> CompletableFuture<T> get(ApiEndpoint endpoint, Class<T> responseClass) {
+        return get(endpoint).thenApplyAsync(response -> as(endpoint, response, responseClass), mappingExecutor);
+    }
+
+    public static <T> CompletableFuture<T> get(ApiEndpoint endpoint, Object id, Class<T> responseClass) {
+        return get(endpoint, id).thenApplyAsync(response -> as(endpoint, response, responseClass), mappingExecutor);
+    }
+
+    public static <T> CompletableFuture<T> get(ApiEndpoint endpoint, Object id, int expectedStatusCode, Class<T> responseClass) {
+        return get(endpoint, id, expectedStatusCode)
+                .thenApplyAsync(response -> as(endpoint, response, responseClass), mappingExecutor);
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> post(ApiEndpoint endpoint, Object requestBody, int expectedStatusCode) {
+        return send(endpoint, "POST", endpoint.getPath(), requestBody)
+                .thenApply(response -> verify(response, expectedStatusCode));
+    }
+
+    public static <T> CompletableFuture<T> post(ApiEndpoint endpoint, Object requestBody, int expectedStatusCode, Class<T> responseClass) {
+        return post(endpoint, requestBody, expectedStatusCode)
+                .thenApplyAsync(response -> as(endpoint, response, responseClass), mappingExecutor);
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> put(ApiEndpoint endpoint, Object id, Object requestBody, int expectedStatusCode) {
+        return send(endpoint, "PUT", endpoint.withId(id), requestBody)
+                .thenApply(response -> verify(response, expectedStatusCode));
+    }
+
+    public static <T> CompletableFuture<T> put(ApiEndpoint endpoint, Object id, Object requestBody, int expectedStatusCode, Class<T> responseClass) {
+        return put(endpoint, id, requestBody, expectedStatusCode)
+                .thenApplyAsync(response -> as(endpoint, response, responseClass), mappingExecutor);
+    }
+
+    public static CompletableFuture<HttpResponse<byte[]>> delete(ApiEndpoint endpoint, Object id, int expectedStatusCode) {
+        return send(endpoint, "DELETE", endpoint.withId(id), null)
+                .thenApply(response -> verify(response, expectedStatusCode));
+    }
+
+    private static HttpClient createHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(ConfigManager.getConnectTimeoutMillis()));
+        if (VirtualThreads.isEnabled()) {
+            builder.executor(VirtualThreads.newThreadPerTaskExecutor("async-http-vt-"));
+        }
+        return builder.build();
+    }
+
+    private static CompletableFuture<HttpResponse<byte[]>> send(ApiEndpoint endpoint, String method, String path, Object requestBody) {
+        byte[] bodyBytes;
+        try {
+            bodyBytes = requestBody == null ? null : RequestBodies.toBytes(requestBody);
+        } catch (UncheckedIOException e) {
+            log.error("Failed to serialize request body for {} {}", method, path, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ApiClient.baseUrl() + path))
+                .timeout(Duration.ofMillis(ConfigManager.getReadTimeoutMillis()))
+                .header("Content-Type", "application/json")
+                .method(method, bodyBytes == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(bodyBytes))
+                .build();
+
+        // Both belong to the calling test, and the response arrives on another thread
+        FailureLog.Buffer failureLog = failureLogEnabled ? FailureLog.buffer() : null;
+        AllureExchangeReporter.PreparedExchange allure = allureEnabled ? AllureExchangeReporter.prepareAsync() : null;
+
+        return Throttle.acquireAsync(endpoint).thenCompose(permit -> {
+            long start = System.nanoTime();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        permit.close();
+                        // Shares ApiClient's response cache, so a write here must not leave stale GETs behind there
+                        if (!"GET".equals(method)) {
+                            ApiClient.invalidateCache(endpoint, path);
+                        }
+                        int statusCode = response == null ? 0 : response.statusCode();
+                        ApiClient.notifyExchange(endpoint, method, statusCode, System.nanoTime() - start);
+                        report(request, bodyBytes, response, error, failureLog, allure);
+                        // No retries here, but the requests still queued behind this one should back off
+                        if (statusCode == 429 || statusCode == 503) {
+                            Throttle.onThrottled(endpoint, response.headers().firstValue("Retry-After").orElse(null));
+                        }
+                    });
+        });
+    }
+
+    // The same exchange the RestAssured filters hand to the Allure report and the failure log for ApiClient
+    private static void report(HttpRequest request, byte[] requestBody, HttpResponse<byte[]> response, Throwable error,
+                               FailureLog.Buffer failureLog, AllureExchangeReporter.PreparedExchange allure) {
+        int statusCode = response == null ? 0 : response.statusCode();
+        String statusLine = response == null
+                ? "No response: " + error
+                : (response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ") + statusCode;
+        String uri = request.uri().toString();
+        if (failureLog != null) {
+            failureLog.record(request.method(), uri, requestBody, statusLine,
+                    () -> response == null ? "" : new String(response.body(), StandardCharsets.UTF_8));
+        }
+        if (allure != null) {
+            allure.submit(HttpExchange.builder()
+                    .method(request.method())
+                    .url(uri)
+                    .requestHeaders(toMap(request.headers()))
+                    .requestBody(requestBody == null ? null : new String(requestBody, StandardCharsets.UTF_8))
+                    .statusCode(statusCode)
+                    .statusLine(statusLine)
+                    .responseHeaders(response == null ? null : toMap(response.headers()))
+                    .responseBody(response == null ? null : response.body()));
+        }
+    }
+
+    private static Map<String, String> toMap(HttpHeaders headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        headers.map().forEach((name, values) -> map.put(name, String.join(", ", values)));
+        return map;
+    }
+
+    private static HttpResponse<byte[]> verify(HttpResponse<byte[]> response, int expectedStatusCode) {
+        if (response.statusCode() != expectedStatusCode) {
+            throw new AssertionError(String.format("Expected status code <%d> but was <%d> for %s %s",
+                    expectedStatusCode, response.statusCode(), response.request().method(), response.uri()));
+        }
+        return response;
+    }
+
+    private static <T> T as(ApiEndpoint endpoint, HttpResponse<byte[]> response, Class<T> responseClass) {
+        ObjectReader reader = MapperRegistry.reader(responseClass);
+        try {
+            if (SchemaValidator.isEnabled() && response.statusCode() / 100 == 2) {
+                JsonNode body = reader.readTree(response.body());
+                SchemaValidator.validate(endpoint, body);
+                return reader.readValue(body);
+            }
+            return reader.readValue(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map response of " + response.uri() + " to " + responseClass.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.tests.client;
+
+import com.api.tests.enums.ApiEndpoint;
+
+/**
+ * Callback for every HTTP exchange made through ApiClient or AsyncApiClient
+ */
+@FunctionalInterface
+public interface ExchangeListener {
+
+    /**
+     * @param endpoint the endpoint that was called
+     * @param method the HTTP verb, e.g. "GET"
+     * @param statusCode the response status, or 0 when no response arrived (connection error, timeout)
+     * @param durationNanos time from sending the request until the response was received
+     */
+    void onExchange(ApiEndpoint endpoint, String method, int statusCode, long durationNanos);
+}
@@ -0,0 +1,90 @@
+package com.api.tests.client;
+
+import com.api.tests.config.ConfigManager;
+import io.restassured.config.HttpClientConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared keep-alive connection pool behind every RestAssured request.
+ * RestAssured only accepts the legacy AbstractHttpClient API, so each request gets a
+ * throw-away DefaultHttpClient wrapper while the sockets live in one pooled manager.
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public final class HttpConnectionPool {
+
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager();
+    private static final ConnectionKeepAliveStrategy keepAliveStrategy = createKeepAliveStrategy();
+
+    static {
+        startIdleConnectionEvictor();
+    }
+
+    private HttpConnectionPool() {
+    }
+
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig().httpClientFactory(HttpConnectionPool::newHttpClient);
+    }
+
+    /**
+     * Execute a request outside RestAssured on the same pooled connections, e.g. to stream the body.
+     * The caller must close the response.
+     */
+    static CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+        HttpConnectionParams.setSoTimeout(request.getParams(), ConfigManager.getReadTimeoutMillis());
+        HttpConnectionParams.setConnectionTimeout(request.getParams(), ConfigManager.getConnectTimeoutMillis());
+        return newHttpClient().execute(request);
+    }
+
+    private static DefaultHttpClient newHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy(keepAliveStrategy);
+        return client;
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(ConfigManager.getPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(ConfigManager.getPoolMaxPerRoute());
+        log.info("HTTP connection pool: maxTotal={}, maxPerRoute={}",
+                manager.getMaxTotal(), manager.getDefaultMaxPerRoute());
+        return manager;
+    }
+
+    private static ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        long defaultKeepAlive = ConfigManager.getPoolKeepAliveMillis();
+        return (response, context) -> {
+            // Honour the server's Keep-Alive timeout when present, otherwise use our own
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? serverKeepAlive : defaultKeepAlive;
+        };
+    }
+
+    private static void startIdleConnectionEvictor() {
+        long interval = ConfigManager.getPoolEvictionIntervalMillis();
+        long idleTimeout = ConfigManager.getPoolIdleTimeoutMillis();
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,139 @@
+package com.api.tests.client;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.utils.MapperRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.UncheckedIOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns request bodies into the bytes that go on the wire.
+ * <ul>
+ *     <li>{@code byte[]} and {@code ByteBuffer} are sent as they are, so callers can serialize once up front</li>
+ *     <li>{@code String} is sent as UTF-8, as RestAssured did</li>
+ *     <li>Book and Author instances are serialized once and cached by identity; data-provider rows are sent
+ *     again and again by retries, load loops and parallel runs, and after the first send that's pure I/O</li>
+ *     <li>anything else is serialized with the shared mapper on every send</li>
+ * </ul>
+ * The models are mutable, so each cache entry remembers the instance's hashCode (Lombok's covers every field)
+ * and a changed instance is simply serialized again.
+ */
+public final class RequestBodies {
+    private static final Set<Class<?>> cacheableTypes = Set.of(Book.class, Author.class);
+    private static final Map<IdentityKey, Serialized> cache = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private static final boolean cacheEnabled = ConfigManager.isBodyCacheEnabled();
+
+    private RequestBodies() {
+    }
+
+    /**
+     * @param body request body, see the class comment for how each type is handled
+     * @return the bytes to send; callers must not modify them, they may be shared
+     */
+    public static byte[] toBytes(Object body) {
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof ByteBuffer) {
+            return toBytes((ByteBuffer) body);
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        if (cacheEnabled && cacheableTypes.contains(body.getClass())) {
+            return cached(body);
+        }
+        return serialize(body);
+    }
+
+    /**
+     * Drop every cached body, e.g. between benchmark iterations
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static byte[] cached(Object body) {
+        expungeCollected();
+        int fingerprint = body.hashCode();
+        IdentityKey key = new IdentityKey(body, null);
+        Serialized entry = cache.get(key);
+        if (entry != null && entry.fingerprint == fingerprint) {
+            return entry.bytes;
+        }
+        byte[] bytes = serialize(body);
+        cache.put(new IdentityKey(body, collected), new Serialized(fingerprint, bytes));
+        return bytes;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] serialize(Object body) {
+        try {
+            return MapperRegistry.writer(body.getClass()).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize " + body.getClass().getSimpleName() + " request body", e);
+        }
+    }
+
+    private static void expungeCollected() {
+        for (Object key; (key = collected.poll()) != null; ) {
+            cache.remove(key);
+        }
+    }
+
+    private static final class Serialized {
+        private final int fingerprint;
+        private final byte[] bytes;
+
+        private Serialized(int fingerprint, byte[] bytes) {
+            this.fingerprint = fingerprint;
+            this.bytes = bytes;
+        }
+    }
+
+    // Weak so a cached body never keeps its model alive; equal only to a key for the very same instance
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+}
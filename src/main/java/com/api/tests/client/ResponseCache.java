@@ -0,0 +1,192 @@
+package com.api.tests.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Read-through cache for GET responses, keyed by path.
+ * <ul>
+ *     <li>concurrent requests for the same path are coalesced: one goes out, the others wait for its response</li>
+ *     <li>successful responses are kept for the TTL; at most {@code maxEntries} of them, oldest evicted first</li>
+ *     <li>an expired entry with an ETag is revalidated with If-None-Match, and a 304 keeps the cached response</li>
+ *     <li>{@link #invalidate} drops entries after a write, and stops responses already in flight from being stored</li>
+ * </ul>
+ * @param <R> response type
+ */
+public class ResponseCache<R> {
+    private static final int NOT_MODIFIED = 304;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ToIntFunction<R> statusOf;
+    private final Function<R, String> etagOf;
+    private final Map<String, Entry<R>> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+    // Bumped by every write to a resource family; a response fetched under an older generation isn't stored
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCache(long ttlMillis, int maxEntries, ToIntFunction<R> statusOf, Function<R, String> etagOf) {
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.maxEntries = maxEntries;
+        this.statusOf = statusOf;
+        this.etagOf = etagOf;
+    }
+
+    /**
+     * @param resource family of the path, e.g. "/Books" for "/Books/1"
+     * @param path the cache key
+     * @param fetch sends the GET; its argument is the ETag to revalidate with, or null
+     * @return the cached response, or the one fetched now
+     */
+    public R get(String resource, String path, Function<String, R> fetch) {
+        Entry<R> entry = entries.get(path);
+        if (entry != null && entry.isFresh()) {
+            hits.increment();
+            return entry.response;
+        }
+
+        CompletableFuture<R> pending = new CompletableFuture<>();
+        CompletableFuture<R> leader = inFlight.putIfAbsent(path, pending);
+        if (leader != null) {
+            coalesced.increment();
+            return join(leader);
+        }
+        try {
+            R response = fetchAndStore(resource, path, fetch);
+            pending.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Includes the IOExceptions RestAssured throws without declaring them, so waiters never hang
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(path, pending);
+        }
+    }
+
+    /**
+     * Drop the cached responses a write to {@code path} makes stale: the path itself and its resource collection
+     */
+    public void invalidate(String resource, String path) {
+        generation(resource).incrementAndGet();
+        entries.remove(resource);
+        entries.remove(path);
+    }
+
+    public void clear() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return e.g. "hits=120, coalesced=3, revalidated=4, misses=20, entries=20"
+     */
+    public String stats() {
+        return String.format("hits=%d, coalesced=%d, revalidated=%d, misses=%d, entries=%d",
+                hits.sum(), coalesced.sum(), revalidated.sum(), misses.sum(), entries.size());
+    }
+
+    private R fetchAndStore(String resource, String path, Function<String, R> fetch) {
+        AtomicLong generation = generation(resource);
+        long fetchedAt = generation.get();
+        // Another thread may have stored it between our lookup and becoming the leader
+        Entry<R> stale = entries.get(path);
+        if (stale != null && stale.isFresh()) {
+            hits.increment();
+            return stale.response;
+        }
+
+        R response = fetch.apply(stale == null ? null : stale.etag);
+        int status = statusOf.applyAsInt(response);
+        if (status == NOT_MODIFIED && stale != null) {
+            revalidated.increment();
+            store(generation, fetchedAt, path, new Entry<>(stale.response, stale.etag, System.nanoTime() + ttlNanos));
+            return stale.response;
+        }
+        misses.increment();
+        if (status / 100 == 2) {
+            store(generation, fetchedAt, path, new Entry<>(response, etagOf.apply(response), System.nanoTime() + ttlNanos));
+        } else {
+            entries.remove(path);
+        }
+        return response;
+    }
+
+    private void store(AtomicLong generation, long fetchedAt, String path, Entry<R> entry) {
+        if (generation.get() != fetchedAt) {
+            return;
+        }
+        entries.put(path, entry);
+        // An invalidation that raced with the put wins
+        if (generation.get() != fetchedAt) {
+            entries.remove(path, entry);
+        }
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    // Expired entries first, then the ones closest to expiring; the scan is bounded by maxEntries
+    private void evict() {
+        entries.values().removeIf(entry -> !entry.isFresh() && entry.etag == null);
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().expiresAt, b.getValue().expiresAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private AtomicLong generation(String resource) {
+        return generations.computeIfAbsent(resource, key -> new AtomicLong());
+    }
+
+    private R join(CompletableFuture<R> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<R> {
+        final R response;
+        final String etag;
+        final long expiresAt;
+
+        Entry(R response, String etag, long expiresAt) {
+            this.response = response;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
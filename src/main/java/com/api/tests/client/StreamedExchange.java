@@ -0,0 +1,209 @@
+package com.api.tests.client;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.logging.FailureLog;
+import com.api.tests.reporting.AllureExchangeReporter;
+import com.api.tests.reporting.HttpExchange;
+import com.api.tests.resilience.Throttle;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.util.EntityUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One GET whose body is read as a stream: the open response and the {@link Throttle} permit it holds until closed.
+ * The body is not buffered, only its first allure.exchange.max.body.bytes as they are read, so closing hands the
+ * Allure report and the {@link FailureLog} a truncated copy of the exchange, like the RestAssured filters do.
+ */
+@Slf4j
+final class StreamedExchange implements Closeable {
+    private final HttpRequestBase request;
+    private final CloseableHttpResponse response;
+    private final Throttle.Permit permit;
+    private final int statusCode;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final boolean allure = ConfigManager.isAllureReportingEnabled();
+    private final boolean failureLog = ConfigManager.isLoggingEnabled();
+    // Set when the body was read in full instead of streamed
+    private byte[] fullBody;
+    private BodyPrefix body;
+
+    StreamedExchange(HttpRequestBase request, CloseableHttpResponse response, Throttle.Permit permit) {
+        this.request = request;
+        this.response = response;
+        this.permit = permit;
+        this.statusCode = response.getStatusLine().getStatusCode();
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    String getHeader(String name) {
+        Header header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
+    String getUri() {
+        return request.getURI().toString();
+    }
+
+    /**
+     * @return the body as it comes off the socket
+     */
+    InputStream getBody() throws IOException {
+        if (body == null) {
+            int captureBytes = allure || failureLog ? ConfigManager.getAllureExchangeMaxBodyBytes() : 0;
+            body = new BodyPrefix(response.getEntity().getContent(), captureBytes);
+        }
+        return body;
+    }
+
+    /**
+     * Read the whole body, e.g. of an error response, and close the exchange
+     */
+    void readFully() throws IOException {
+        try {
+            fullBody = response.getEntity() == null ? new byte[0] : EntityUtils.toByteArray(response.getEntity());
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * @return the body read by {@link #readFully()}, or null when it is being streamed
+     */
+    String getFullBody() {
+        return fullBody == null ? null : new String(fullBody, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Drop the connection instead of reading the rest of the body to reuse it
+     */
+    void abort() {
+        request.abort();
+    }
+
+    /**
+     * Abort and close an exchange nobody is going to read, e.g. the slower of two hedged requests
+     */
+    void discard() {
+        abort();
+        try {
+            close();
+        } catch (IOException e) {
+            log.debug("Ignoring failure to close discarded GET {}", getUri(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            response.close();
+        } finally {
+            permit.close();
+            record();
+        }
+    }
+
+    private void record() {
+        if (!allure && !failureLog) {
+            return;
+        }
+        byte[] bodyBytes = fullBody != null ? fullBody : body != null ? body.bytes() : null;
+        String statusLine = response.getStatusLine().toString();
+        if (allure && AllureExchangeReporter.shouldReport(statusCode)) {
+            AllureExchangeReporter.submit(HttpExchange.builder()
+                    .method(request.getMethod())
+                    .url(getUri())
+                    .requestHeaders(toMap(request.getAllHeaders()))
+                    .statusCode(statusCode)
+                    .statusLine(statusLine)
+                    .responseHeaders(toMap(response.getAllHeaders()))
+                    .responseBody(bodyBytes)
+                    .requestSource(AllureExchangeReporter.prepareRequest())
+                    .responseSource(AllureExchangeReporter.prepareResponse(statusLine))
+                    .build());
+        }
+        if (failureLog) {
+            FailureLog.record(request.getMethod(), getUri(), null, statusLine,
+                    () -> bodyBytes == null ? "" : new String(bodyBytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Map<String, String> toMap(Header[] headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (Header header : headers) {
+            map.put(header.getName(), header.getValue());
+        }
+        return map;
+    }
+
+    // Keeps a copy of the first bytes read through it; with the note it still fits in maxBytes
+    private static final class BodyPrefix extends FilterInputStream {
+        private static final byte[] TRUNCATED = String.format("%n... streamed, only the start of the body was kept")
+                .getBytes(StandardCharsets.UTF_8);
+        private final ByteArrayOutputStream prefix;
+        private final int limit;
+        private boolean truncated;
+
+        BodyPrefix(InputStream in, int maxBytes) {
+            super(in);
+            this.limit = Math.max(0, maxBytes - TRUNCATED.length);
+            this.prefix = new ByteArrayOutputStream(Math.min(limit, 8192));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                keep(new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                keep(buffer, offset, read);
+            }
+            return read;
+        }
+
+        private void keep(byte[] buffer, int offset, int length) {
+            int room = limit - prefix.size();
+            if (length > room) {
+                truncated = true;
+            }
+            if (room > 0) {
+                prefix.write(buffer, offset, Math.min(room, length));
+            }
+        }
+
+        byte[] bytes() {
+            byte[] bytes = prefix.toByteArray();
+            if (!truncated) {
+                return bytes;
+            }
+            byte[] withNote = Arrays.copyOf(bytes, bytes.length + TRUNCATED.length);
+            System.arraycopy(TRUNCATED, 0, withNote, bytes.length, TRUNCATED.length);
+            return withNote;
+        }
+    }
+}
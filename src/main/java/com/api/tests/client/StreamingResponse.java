@@ -0,0 +1,94 @@
+package com.api.tests.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The elements of a top-level JSON array response, parsed one at a time straight off the socket.
+ * Only the current element is ever in memory; closing releases the pooled connection.
+ */
+final class StreamingResponse<T> implements Iterator<T>, Closeable {
+    private final StreamedExchange exchange;
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Consumer<JsonNode> elementCheck;
+    private JsonToken current;
+
+    /**
+     * @param elementCheck applied to each element's tree before it is mapped, or null to map straight off the parser
+     */
+    StreamingResponse(StreamedExchange exchange, ObjectReader reader, Consumer<JsonNode> elementCheck) throws IOException {
+        this.exchange = exchange;
+        this.reader = reader;
+        this.elementCheck = elementCheck;
+        this.parser = reader.getFactory().createParser(exchange.getBody());
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            close();
+            throw new IOException("Expected a JSON array from " + exchange.getUri() + " but got " + parser.currentToken());
+        }
+        current = parser.nextToken();
+    }
+
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null && current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T element;
+            if (elementCheck == null) {
+                element = reader.readValue(parser);
+            } else {
+                JsonNode tree = reader.readTree(parser);
+                elementCheck.accept(tree);
+                element = reader.readValue(tree);
+            }
+            current = parser.nextToken();
+            return element;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read element from " + exchange.getUri(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Reading the rest of a huge body just to reuse the socket costs more than a new connection
+        if (hasNext()) {
+            exchange.abort();
+        }
+        try {
+            parser.close();
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.api.tests.config;
 
+import com.api.tests.enums.ApiEndpoint;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -9,6 +10,8 @@ import java.util.Properties;
 @Slf4j
 public class ConfigManager {
     private static final String CONFIG_FILE = "config.properties";
+    // Set by LocalApiServer while it runs, to the address it listens on
+    public static final String LOCAL_BASE_URL_PROPERTY = "base.url.local";
     private static Properties properties;
 
     static {
@@ -46,15 +49,426 @@ public class ConfigManager {
         return value != null ? value : defaultValue;
     }
 
+    /**
+     * @return base.url, or with base.url=local the address the running LocalApiServer published
+     * @throws IllegalStateException with base.url=local while no LocalApiServer is running
+     */
     public static String getBaseUrl() {
+        if (isLocalServer()) {
+            String localUrl = System.getProperty(LOCAL_BASE_URL_PROPERTY);
+            if (localUrl == null) {
+                throw new IllegalStateException("base.url=local but the local API server is not running;"
+                        + " start it with LocalApiServer.start(), as BaseTest does before the suite");
+            }
+            return localUrl;
+        }
         return getProperty("base.url", "https://simple-books-api.glitch.me");
     }
 
+    /**
+     * @return true when base.url=local, i.e. tests run against the in-process LocalApiServer
+     */
+    public static boolean isLocalServer() {
+        return "local".equalsIgnoreCase(getProperty("base.url"));
+    }
+
     public static int getTimeout() {
         return Integer.parseInt(getProperty("request.timeout", "30000"));
     }
 
+    public static int getConnectTimeoutMillis() {
+        return Integer.parseInt(getProperty("request.connect.timeout", "5000"));
+    }
+
+    /**
+     * @return how long to wait for response data, request.timeout unless request.read.timeout is set
+     */
+    public static int getReadTimeoutMillis() {
+        return Integer.parseInt(getProperty("request.read.timeout", String.valueOf(getTimeout())));
+    }
+
+    public static boolean isRetryEnabled() {
+        return Boolean.parseBoolean(getProperty("retry.enabled", "true"));
+    }
+
+    /**
+     * @return attempts per request including the first one, so 1 means no retries
+     */
+    public static int getRetryMaxAttempts() {
+        return Integer.parseInt(getProperty("retry.max.attempts", "3"));
+    }
+
+    public static long getRetryBaseDelayMillis() {
+        return Long.parseLong(getProperty("retry.backoff.base.ms", "200"));
+    }
+
+    public static long getRetryMaxDelayMillis() {
+        return Long.parseLong(getProperty("retry.backoff.max.ms", "5000"));
+    }
+
+    /**
+     * @return comma-separated status codes worth retrying (idempotent methods only)
+     */
+    public static String getRetryStatuses() {
+        return getProperty("retry.statuses", "429,500,502,503,504");
+    }
+
+    public static boolean isCircuitBreakerEnabled() {
+        return Boolean.parseBoolean(getProperty("circuit.enabled", "true"));
+    }
+
+    public static int getCircuitFailureThreshold() {
+        return Integer.parseInt(getProperty("circuit.failure.threshold", "5"));
+    }
+
+    public static long getCircuitOpenMillis() {
+        return Long.parseLong(getProperty("circuit.open.ms", "30000"));
+    }
+
+    public static boolean isHedgingEnabled() {
+        return Boolean.parseBoolean(getProperty("hedge.enabled", "false"));
+    }
+
+    /**
+     * @return the endpoint latency percentile a GET has to exceed before a hedged copy is sent
+     */
+    public static double getHedgePercentile() {
+        return Double.parseDouble(getProperty("hedge.percentile", "95"));
+    }
+
+    public static long getHedgeMinDelayMillis() {
+        return Long.parseLong(getProperty("hedge.min.delay.ms", "20"));
+    }
+
+    public static long getHedgeMinSamples() {
+        return Long.parseLong(getProperty("hedge.min.samples", "20"));
+    }
+
+    /**
+     * @return requests per second across all endpoints, 0 for no limit
+     */
+    public static double getThrottleRps() {
+        return Double.parseDouble(getProperty("throttle.rps", "0"));
+    }
+
+    /**
+     * @return requests per second to one endpoint (throttle.books_by_id.rps, ...), 0 for no limit
+     */
+    public static double getThrottleRps(ApiEndpoint endpoint) {
+        return Double.parseDouble(getProperty("throttle." + endpoint.name().toLowerCase() + ".rps", "0"));
+    }
+
+    /**
+     * @return requests a rate limit lets through back to back after an idle period
+     */
+    public static int getThrottleBurst() {
+        return Integer.parseInt(getProperty("throttle.burst", "10"));
+    }
+
+    public static int getThrottleMaxInFlight() {
+        return Integer.parseInt(getProperty("throttle.max.inflight", "0"));
+    }
+
+    public static int getThrottleMaxInFlight(ApiEndpoint endpoint) {
+        return Integer.parseInt(getProperty("throttle." + endpoint.name().toLowerCase() + ".max.inflight", "0"));
+    }
+
+    /**
+     * @return true to keep each test's recent request/response bodies and log them when the test fails
+     */
     public static boolean isLoggingEnabled() {
         return Boolean.parseBoolean(getProperty("logging.enabled", "true"));
     }
-}
\ No newline at end of file
+
+    /**
+     * @return how many exchanges per test the failure log keeps; 0 or less keeps none
+     */
+    public static int getFailureLogExchanges() {
+        return Integer.parseInt(getProperty("logging.failure.exchanges", "10"));
+    }
+
+    /**
+     * @return false to skip the Allure request/response attachments, e.g. in load mode where no test is running
+     */
+    public static boolean isAllureReportingEnabled() {
+        return Boolean.parseBoolean(getProperty("allure.reporting.enabled", "true"));
+    }
+
+    /**
+     * @return share of successful HTTP exchanges attached to the Allure report; failed ones are always attached
+     */
+    public static double getAllureExchangeSampleRate() {
+        return Double.parseDouble(getProperty("allure.exchange.sample.rate", "1.0"));
+    }
+
+    public static int getAllureExchangeMaxBodyBytes() {
+        return Integer.parseInt(getProperty("allure.exchange.max.body.bytes", "65536"));
+    }
+
+    public static int getAllureExchangeQueueCapacity() {
+        return Integer.parseInt(getProperty("allure.exchange.queue.capacity", "1024"));
+    }
+
+    public static boolean isTestDataPreloadEnabled() {
+        return Boolean.parseBoolean(getProperty("testdata.preload", "true"));
+    }
+
+    public static boolean isTestDataReloadEnabled() {
+        return Boolean.parseBoolean(getProperty("testdata.reload", "false"));
+    }
+
+    /**
+     * @return the seed for generated test data, or null to pick a new one each run
+     */
+    public static Long getTestDataSeed() {
+        String seed = getProperty("testdata.seed");
+        return seed == null || seed.isBlank() ? null : Long.valueOf(seed.trim());
+    }
+
+    /**
+     * @return false to skip the JSON schema check on every successful response
+     */
+    public static boolean isSchemaValidationEnabled() {
+        return Boolean.parseBoolean(getProperty("schema.validation.enabled", "true"));
+    }
+
+    public static boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.enabled", "true"));
+    }
+
+    public static String getMetricsDirectory() {
+        return getProperty("metrics.dir", "target/metrics");
+    }
+
+    public static String getPerfBaselineDirectory() {
+        return getProperty("perf.baseline.dir", "target/perf-baseline");
+    }
+
+    public static int getPerfBaselineRuns() {
+        return Integer.parseInt(getProperty("perf.baseline.runs", "5"));
+    }
+
+    public static double getPerfGateP95Tolerance() {
+        return Double.parseDouble(getProperty("perf.gate.p95.tolerance", "0.20"));
+    }
+
+    public static double getPerfGateP99Tolerance() {
+        return Double.parseDouble(getProperty("perf.gate.p99.tolerance", "0.30"));
+    }
+
+    public static double getPerfGateNoiseFactor() {
+        return Double.parseDouble(getProperty("perf.gate.noise.factor", "3"));
+    }
+
+    public static double getPerfGateMinDeltaMillis() {
+        return Double.parseDouble(getProperty("perf.gate.min.delta.ms", "5"));
+    }
+
+    public static int getPerfGateMinRuns() {
+        return Integer.parseInt(getProperty("perf.gate.min.runs", "3"));
+    }
+
+    public static long getPerfGateMinCount() {
+        return Long.parseLong(getProperty("perf.gate.min.count", "5"));
+    }
+
+    public static int getBulkMaxInFlight() {
+        return Integer.parseInt(getProperty("bulk.max.inflight", "32"));
+    }
+
+    public static int getBulkMaxReportedFailures() {
+        return Integer.parseInt(getProperty("bulk.max.reported.failures", "20"));
+    }
+
+    public static String getParallelMode() {
+        return getProperty("parallel.mode", "methods");
+    }
+
+    public static int getThreadCount() {
+        return Integer.parseInt(getProperty("parallel.thread.count", "4"));
+    }
+
+    public static int getDataProviderThreadCount() {
+        return Integer.parseInt(getProperty("parallel.dataprovider.thread.count", "4"));
+    }
+
+    /**
+     * @return which of the {@link #getShardCount()} shards this JVM runs, 0-based
+     */
+    public static int getShardIndex() {
+        return Integer.parseInt(getProperty("shard.index", "0"));
+    }
+
+    public static int getShardCount() {
+        return Integer.parseInt(getProperty("shard.count", "1"));
+    }
+
+    /**
+     * @return where ShardRunner puts each shard's results (shard-0, shard-1, ...) and ShardMerger reads them from
+     */
+    public static String getShardDirectory() {
+        return getProperty("shard.dir", "target/shards");
+    }
+
+    /**
+     * @return true to order tests by their history: flaky and failing ones first, then longest first
+     */
+    public static boolean isScheduleEnabled() {
+        return Boolean.parseBoolean(getProperty("schedule.enabled", "true"));
+    }
+
+    public static String getScheduleHistoryFile() {
+        return getProperty("schedule.history.file", "target/test-history/history.json");
+    }
+
+    /**
+     * @return weight of the latest run in the averaged durations and failure rates, 0 to 1
+     */
+    public static double getScheduleHistoryAlpha() {
+        return Double.parseDouble(getProperty("schedule.history.alpha", "0.3"));
+    }
+
+    /**
+     * @return averaged failure rate from which a test counts as flaky and runs first
+     */
+    public static double getScheduleFlakyThreshold() {
+        return Double.parseDouble(getProperty("schedule.flaky.threshold", "0.1"));
+    }
+
+    public static boolean isVirtualThreadsEnabled() {
+        return Boolean.parseBoolean(getProperty("execution.virtual.threads", "false"));
+    }
+
+    public static long getPinnedThreadThresholdMillis() {
+        return Long.parseLong(getProperty("execution.virtual.pinned.threshold.ms", "20"));
+    }
+
+    public static boolean isConnectionPoolEnabled() {
+        return Boolean.parseBoolean(getProperty("http.pool.enabled", "true"));
+    }
+
+    public static int getPoolMaxTotal() {
+        return Integer.parseInt(getProperty("http.pool.max.total", "50"));
+    }
+
+    public static int getPoolMaxPerRoute() {
+        return Integer.parseInt(getProperty("http.pool.max.per.route", "20"));
+    }
+
+    public static long getPoolKeepAliveMillis() {
+        return Long.parseLong(getProperty("http.pool.keepalive.ms", "30000"));
+    }
+
+    public static long getPoolIdleTimeoutMillis() {
+        return Long.parseLong(getProperty("http.pool.idle.timeout.ms", "30000"));
+    }
+
+    public static long getPoolEvictionIntervalMillis() {
+        return Long.parseLong(getProperty("http.pool.eviction.interval.ms", "5000"));
+    }
+
+    /**
+     * @return false to serialize Book/Author request bodies on every send instead of caching the bytes
+     */
+    public static boolean isBodyCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("http.body.cache.enabled", "true"));
+    }
+
+    /**
+     * @return true to serve repeated GETs from a response cache; off by default since tests may expect fresh reads
+     */
+    public static boolean isResponseCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("http.cache.enabled", "false"));
+    }
+
+    public static long getResponseCacheTtlMillis() {
+        return Long.parseLong(getProperty("http.cache.ttl.ms", "30000"));
+    }
+
+    public static int getResponseCacheMaxEntries() {
+        return Integer.parseInt(getProperty("http.cache.max.entries", "1000"));
+    }
+
+    public static int getMockPort() {
+        return Integer.parseInt(getProperty("mock.port", "0"));
+    }
+
+    public static int getMockThreads() {
+        return Integer.parseInt(getProperty("mock.threads", "16"));
+    }
+
+    public static long getMockSeed() {
+        return Long.parseLong(getProperty("mock.seed", "42"));
+    }
+
+    public static int getMockBookCount() {
+        return Integer.parseInt(getProperty("mock.books.count", "200"));
+    }
+
+    public static int getMockAuthorCount() {
+        return Integer.parseInt(getProperty("mock.authors.count", "600"));
+    }
+
+    public static String getMockLatencyDistribution() {
+        return getProperty("mock.latency.distribution", "none");
+    }
+
+    public static double getMockLatencyMeanMillis() {
+        return Double.parseDouble(getProperty("mock.latency.mean.ms", "0"));
+    }
+
+    public static double getMockLatencyStdDevMillis() {
+        return Double.parseDouble(getProperty("mock.latency.stddev.ms", "0"));
+    }
+
+    public static long getMockLatencyMaxMillis() {
+        return Long.parseLong(getProperty("mock.latency.max.ms", "10000"));
+    }
+
+    public static double getMockErrorRate() {
+        return Double.parseDouble(getProperty("mock.error.rate", "0"));
+    }
+
+    public static int getMockErrorStatus() {
+        return Integer.parseInt(getProperty("mock.error.status", "503"));
+    }
+
+    /**
+     * @return Retry-After header sent with injected errors, e.g. "1" to simulate throttling with 429; empty for none
+     */
+    public static String getMockErrorRetryAfter() {
+        return getProperty("mock.error.retry.after", "").trim();
+    }
+
+    public static String getLoadModel() {
+        return getProperty("load.model", "closed");
+    }
+
+    public static int getLoadUsers() {
+        return Integer.parseInt(getProperty("load.users", "10"));
+    }
+
+    public static double getLoadTargetRps() {
+        return Double.parseDouble(getProperty("load.rps", "50"));
+    }
+
+    public static long getLoadDurationSeconds() {
+        return Long.parseLong(getProperty("load.duration.seconds", "60"));
+    }
+
+    public static long getLoadRampUpSeconds() {
+        return Long.parseLong(getProperty("load.rampup.seconds", "10"));
+    }
+
+    public static int getLoadMaxInFlight() {
+        return Integer.parseInt(getProperty("load.max.inflight", "1000"));
+    }
+
+    public static String getLoadTestClasses() {
+        return getProperty("load.classes", "com.api.tests.BooksApiTest,com.api.tests.AuthorsApiTest");
+    }
+
+    public static boolean isLoadFailOnError() {
+        return Boolean.parseBoolean(getProperty("load.fail.on.error", "false"));
+    }
+}
@@ -2,15 +2,23 @@ package com.api.tests.dataproviders;
 
 import com.api.tests.models.Author;
 import com.api.tests.models.Book;
+import com.api.tests.snapshot.AuthorView;
+import com.api.tests.snapshot.BookView;
+import com.api.tests.snapshot.Dataset;
+import com.api.tests.snapshot.Snapshot;
+import com.api.tests.snapshot.TestDataSnapshots;
 import com.api.tests.utils.TestDataGenerator;
 import com.api.tests.utils.JsonDataReader;
 import org.testng.annotations.DataProvider;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public class TestDataProviders {
 
-    @DataProvider(name = "validBookData")
+    @DataProvider(name = "validBookData", parallel = true)
     public static Object[][] getValidBookData() {
         List<Book> books = JsonDataReader.readValidBooks();
         Object[][] data = new Object[books.size()][];
@@ -22,7 +30,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "invalidBookData")
+    @DataProvider(name = "invalidBookData", parallel = true)
     public static Object[][] getInvalidBookData() {
         List<JsonDataReader.InvalidTestData<Book>> invalidBooks = JsonDataReader.readInvalidBooks();
         Object[][] data = new Object[invalidBooks.size()][];
@@ -35,7 +43,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "validAuthorData")
+    @DataProvider(name = "validAuthorData", parallel = true)
     public static Object[][] getValidAuthorData() {
         List<Author> authors = JsonDataReader.readValidAuthors();
         Object[][] data = new Object[authors.size()][];
@@ -47,7 +55,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "invalidAuthorData")
+    @DataProvider(name = "invalidAuthorData", parallel = true)
     public static Object[][] getInvalidAuthorData() {
         List<JsonDataReader.InvalidTestData<Author>> invalidAuthors = JsonDataReader.readInvalidAuthors();
         Object[][] data = new Object[invalidAuthors.size()][];
@@ -60,7 +68,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "bookSearchData")
+    @DataProvider(name = "bookSearchData", parallel = true)
     public static Object[][] getBookSearchData() {
         JsonDataReader.ValidationData validationData = JsonDataReader.readValidationData();
         List<JsonDataReader.ValidationData.SearchTerm> searchTerms = validationData.getBookSearchTerms();
@@ -74,7 +82,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "bookIds")
+    @DataProvider(name = "bookIds", parallel = true)
     public static Object[][] getBookIds() {
         JsonDataReader.TestIds testIds = JsonDataReader.readTestIds();
         List<Integer> bookIds = testIds.getValidBookIds();
@@ -87,7 +95,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "authorIds")
+    @DataProvider(name = "authorIds", parallel = true)
     public static Object[][] getAuthorIds() {
         JsonDataReader.TestIds testIds = JsonDataReader.readTestIds();
         List<Integer> authorIds = testIds.getValidAuthorIds();
@@ -100,7 +108,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "invalidIds")
+    @DataProvider(name = "invalidIds", parallel = true)
     public static Object[][] getInvalidIds() {
         JsonDataReader.TestIds testIds = JsonDataReader.readTestIds();
         List<JsonDataReader.TestIds.InvalidId> invalidIds = testIds.getInvalidIds();
@@ -114,50 +122,29 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "randomBookData")
+    @DataProvider(name = "randomBookData", parallel = true)
     public static Object[][] getRandomBookData() {
         Object[][] data = new Object[3][];
         
         for (int i = 0; i < 3; i++) {
-            data[i] = new Object[] {
-                Book.builder()
-                    .id(0)
-                    .title(TestDataGenerator.generateRandomBookTitle())
-                    .description("Auto-generated book description for testing purposes")
-                    .pageCount(TestDataGenerator.generateRandomYear() % 500 + 100)
-                    .excerpt("This is an auto-generated excerpt for testing")
-                    .publishDate("2024-01-01T00:00:00.000Z")
-                    .build()
-            };
+            data[i] = new Object[] {TestDataGenerator.generateRandomBook()};
         }
         
         return data;
     }
 
-    @DataProvider(name = "randomAuthorData")
+    @DataProvider(name = "randomAuthorData", parallel = true)
     public static Object[][] getRandomAuthorData() {
         Object[][] data = new Object[3][];
         
         for (int i = 0; i < 3; i++) {
-            String fullName = TestDataGenerator.generateRandomName();
-            String[] nameParts = fullName.split(" ");
-            String firstName = nameParts[0];
-            String lastName = nameParts.length > 1 ? nameParts[1] : "TestLastName";
-            
-            data[i] = new Object[] {
-                Author.builder()
-                    .id(0)
-                    .idBook(i + 1) // Different book IDs
-                    .firstName(firstName)
-                    .lastName(lastName)
-                    .build()
-            };
+            data[i] = new Object[] {TestDataGenerator.generateRandomAuthor(i + 1)}; // Different book IDs
         }
         
         return data;
     }
 
-    @DataProvider(name = "bulkTestData")
+    @DataProvider(name = "bulkTestData", parallel = true)
     public static Object[][] getBulkTestData() {
         List<JsonDataReader.BulkTestData> bulkData = JsonDataReader.readBulkTestData();
         Object[][] data = new Object[bulkData.size()][];
@@ -175,7 +162,7 @@ public class TestDataProviders {
         return data;
     }
 
-    @DataProvider(name = "pageCountValidation")
+    @DataProvider(name = "pageCountValidation", parallel = true)
     public static Object[][] getPageCountValidationData() {
         JsonDataReader.ValidationData validationData = JsonDataReader.readValidationData();
         List<JsonDataReader.ValidationData.PageCountValidation> pageCountValidations = 
@@ -193,4 +180,63 @@ public class TestDataProviders {
         
         return data;
     }
-}
\ No newline at end of file
+
+    // Lazy variants for large data files: rows come from the memory-mapped snapshot when there is one,
+    // otherwise they are parsed from JSON as tests consume them, so memory stays flat either way.
+    // Not parallel on purpose: TestNG collects every row up front before running parallel rows.
+
+    @DataProvider(name = "validBookDataStream")
+    public static Iterator<Object[]> streamValidBookData() {
+        List<BookView> books = JsonDataReader.mapValidBooks();
+        if (!books.isEmpty()) {
+            return rows(books.iterator(), book -> new Object[]{book.toBook()});
+        }
+        return rows(JsonDataReader.iterate("validBooks.json", Book.class), book -> new Object[]{book});
+    }
+
+    @DataProvider(name = "validAuthorDataStream")
+    public static Iterator<Object[]> streamValidAuthorData() {
+        List<AuthorView> authors = JsonDataReader.mapValidAuthors();
+        if (!authors.isEmpty()) {
+            return rows(authors.iterator(), author -> new Object[]{author.toAuthor()});
+        }
+        return rows(JsonDataReader.iterate("validAuthors.json", Author.class), author -> new Object[]{author});
+    }
+
+    @DataProvider(name = "bulkTestDataStream")
+    public static Iterator<Object[]> streamBulkTestData() {
+        Snapshot bulk = TestDataSnapshots.open(Dataset.BULK);
+        if (bulk != null) {
+            int bookId = bulk.column("bookId");
+            int bookTitle = bulk.column("bookTitle");
+            int authorFirstName = bulk.column("authorFirstName");
+            int authorLastName = bulk.column("authorLastName");
+            return rows(IntStream.range(0, bulk.getRowCount()).iterator(), row -> new Object[]{
+                bulk.getInt(bookId, row),
+                bulk.getString(bookTitle, row),
+                bulk.getString(authorFirstName, row),
+                bulk.getString(authorLastName, row)
+            });
+        }
+        return rows(JsonDataReader.iterate("bulkTestData.json", JsonDataReader.BulkTestData.class), data -> new Object[]{
+            data.getBookId(),
+            data.getBookTitle(),
+            data.getAuthorFirstName(),
+            data.getAuthorLastName()
+        });
+    }
+
+    private static <T> Iterator<Object[]> rows(Iterator<T> items, Function<T, Object[]> toRow) {
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return toRow.apply(items.next());
+            }
+        };
+    }
+}
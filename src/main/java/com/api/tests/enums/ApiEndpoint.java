@@ -8,14 +8,16 @@ import lombok.Getter;
 public enum ApiEndpoint {
     
     // Books endpoints
-    BOOKS("/Books"),
-    BOOKS_BY_ID("/Books/{id}"),
+    BOOKS("/Books", "book.json"),
+    BOOKS_BY_ID("/Books/{id}", "book.json"),
     
     // Authors endpoints  
-    AUTHORS("/Authors"),
-    AUTHORS_BY_ID("/Authors/{id}");
+    AUTHORS("/Authors", "author.json"),
+    AUTHORS_BY_ID("/Authors/{id}", "author.json");
 
     private final String path;
+    // JSON schema under /schemas/ for one entity of this endpoint's responses
+    private final String schema;
 
     /**
      * Get the endpoint path with ID parameter replaced
@@ -25,4 +27,13 @@ public enum ApiEndpoint {
     public String withId(Object id) {
         return path.replace("{id}", String.valueOf(id));
     }
+
+    /**
+     * Get the collection path shared by this endpoint's family
+     * @return the resource root, e.g. "/Books" for both BOOKS and BOOKS_BY_ID
+     */
+    public String getResource() {
+        int separator = path.indexOf('/', 1);
+        return separator < 0 ? path : path.substring(0, separator);
+    }
 }
\ No newline at end of file
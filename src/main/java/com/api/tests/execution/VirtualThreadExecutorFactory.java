@@ -0,0 +1,123 @@
+package com.api.tests.execution;
+
+import com.api.tests.utils.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+import org.testng.thread.IWorker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestNG executor factory that runs test methods, and so their blocking ApiClient calls, on virtual threads
+ * when execution.virtual.threads=true. Pass it with -threadpoolfactoryclass, as {@link VirtualThreadSuiteRunner} does.
+ * TestNG's thread-count still caps how many tests run at once; without virtual threads the workers are platform threads.
+ * Rows of parallel data providers run on TestNG's own data provider pool, which this factory doesn't create.
+ */
+@Slf4j
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+            IThreadWorkerFactory<ISuite> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> queue, Comparator<ISuite> comparator) {
+        return new GraphExecutor<>(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime, unit, queue,
+                comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+            IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> queue, Comparator<ITestNGMethod> comparator) {
+        return new GraphExecutor<>(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime, unit, queue,
+                comparator);
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        if (VirtualThreads.isEnabled()) {
+            log.info("Running '{}' on virtual threads", name);
+            return VirtualThreads.newThreadFactory("TestNG-" + name + "-vt-");
+        }
+        ThreadFactory platform = Executors.defaultThreadFactory();
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = platform.newThread(task);
+            thread.setName("TestNG-" + name + "-" + count.getAndIncrement());
+            return thread;
+        };
+    }
+
+    /**
+     * Walks TestNG's dependency graph like its own executor: starts every free node, and each time a worker
+     * finishes, marks its nodes finished and starts the nodes that freed up, until the whole graph is done.
+     * The threads are pooled only so that the pool size stays the limit on concurrent tests.
+     */
+    private static final class GraphExecutor<T> extends ThreadPoolExecutor implements ITestNGThreadPoolExecutor {
+        private final IDynamicGraph<T> graph;
+        private final IThreadWorkerFactory<T> workers;
+        private final Comparator<T> comparator;
+
+        GraphExecutor(String name, IDynamicGraph<T> graph, IThreadWorkerFactory<T> workers, int corePoolSize,
+                int maximumPoolSize, long keepAliveTime, TimeUnit unit, BlockingQueue<Runnable> queue,
+                Comparator<T> comparator) {
+            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, queue, threadFactory(name));
+            this.graph = graph;
+            this.workers = workers;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void run() {
+            synchronized (graph) {
+                if (graph.getNodeCount() == 0) {
+                    shutdown();
+                    return;
+                }
+                runNodes(freeNodes());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void afterExecute(Runnable runnable, Throwable error) {
+            synchronized (graph) {
+                graph.setStatus(((IWorker<T>) runnable).getTasks(), IDynamicGraph.Status.FINISHED);
+                if (graph.getNodeCount() == graph.getNodeCountWithStatus(IDynamicGraph.Status.FINISHED)) {
+                    shutdown();
+                } else {
+                    runNodes(freeNodes());
+                }
+            }
+        }
+
+        private List<T> freeNodes() {
+            List<T> nodes = new ArrayList<>(graph.getFreeNodes());
+            if (comparator != null) {
+                nodes.sort(comparator);
+            }
+            return nodes;
+        }
+
+        private void runNodes(List<T> nodes) {
+            if (nodes.isEmpty()) {
+                return;
+            }
+            for (IWorker<T> worker : workers.createWorkers(nodes)) {
+                graph.setStatus(worker.getTasks(), IDynamicGraph.Status.RUNNING);
+                execute(worker);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.tests.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.TestNG;
+
+/**
+ * Runs TestNG from its command line arguments in this JVM, for the virtual-threads profile:
+ * surefire has no way to hand -threadpoolfactoryclass on to TestNG, so that profile runs the suite through here.
+ * Run with: mvn -Pvirtual-threads test (on Java 21)
+ */
+@Slf4j
+public final class VirtualThreadSuiteRunner {
+    // TestNG only asks the -threadpoolfactoryclass factory for test executors when this is set
+    private static final String FAVOR_CUSTOM_EXECUTOR = "testng.favor.custom.thread-pool.executor";
+    // TestNG exit status bits that don't mean a test failed
+    private static final int SKIPPED = 2;
+    private static final int NO_TESTS = 8;
+
+    private VirtualThreadSuiteRunner() {
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(FAVOR_CUSTOM_EXECUTOR, "true");
+        TestNG testng = TestNG.privateMain(args, null);
+        int status = testng.getStatus();
+        log.info("TestNG finished with exit status {}", status);
+        if ((status & ~(SKIPPED | NO_TESTS)) != 0) {
+            throw new IllegalStateException("TestNG finished with exit status " + status + ", see "
+                    + testng.getOutputDirectory());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.reporting.AllureExchangeReporter;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Waits for the background Allure writer when a suite ends, so the report isn't generated from half-written results
+ */
+@Slf4j
+public class AllureExchangeListener implements ISuiteListener {
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ConfigManager.isAllureReportingEnabled()) {
+            return;
+        }
+        AllureExchangeReporter.flush(FLUSH_TIMEOUT_MILLIS);
+        log.info("Allure HTTP exchanges: {}", AllureExchangeReporter.stats());
+    }
+}
@@ -0,0 +1,95 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.scheduling.TestScheduler;
+import com.api.tests.sharding.Shard;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Decides which data provider rows run in this JVM and in what order: only the rows of this JVM's {@link Shard},
+ * and for parallel data providers longest first, see {@link TestScheduler}.
+ * Both happen here because TestNG calls several data provider interceptors in no fixed order,
+ * and the shard of a row depends on its original position.
+ */
+public class DataProviderRowListener implements IDataProviderInterceptor {
+    private final Shard shard = Shard.fromConfig();
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> rows, IDataProviderMethod dataProvider,
+                                        ITestNGMethod method, ITestContext context) {
+        String className = method.getRealClass().getName();
+        String methodName = method.getMethodName();
+        String methodKey = Shard.methodKey(className, methodName);
+
+        // Sequential rows gain nothing from reordering, so they stay lazy for streaming data providers
+        if (!dataProvider.isParallel() || !ConfigManager.isScheduleEnabled()) {
+            return new OwnedRows(rows, className, methodName);
+        }
+
+        Map<Integer, Object[]> owned = new LinkedHashMap<>();
+        for (int row = 0; rows.hasNext(); row++) {
+            Object[] values = rows.next();
+            if (shard.owns(Shard.rowKey(className, methodName, row))) {
+                owned.put(row, values);
+            }
+        }
+        List<Integer> order = TestScheduler.schedule(owned.keySet(), row -> Shard.rowKey(className, methodName, row));
+        List<Object[]> ordered = new ArrayList<>(order.size());
+        for (Integer row : order) {
+            Object[] values = owned.get(row);
+            TestScheduler.rowScheduled(methodKey, values, row);
+            ordered.add(values);
+        }
+        return ordered.iterator();
+    }
+
+    // This shard's rows in their original order, read one at a time
+    private final class OwnedRows implements Iterator<Object[]> {
+        private final Iterator<Object[]> rows;
+        private final String className;
+        private final String methodName;
+        private final String methodKey;
+        private int row = -1;
+        private Object[] next;
+
+        OwnedRows(Iterator<Object[]> rows, String className, String methodName) {
+            this.rows = rows;
+            this.className = className;
+            this.methodName = methodName;
+            this.methodKey = Shard.methodKey(className, methodName);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && rows.hasNext()) {
+                Object[] candidate = rows.next();
+                row++;
+                if (shard.owns(Shard.rowKey(className, methodName, row))) {
+                    next = candidate;
+                    TestScheduler.rowScheduled(methodKey, candidate, row);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] current = next;
+            next = null;
+            return current;
+        }
+    }
+}
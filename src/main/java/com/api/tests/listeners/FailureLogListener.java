@@ -0,0 +1,46 @@
+package com.api.tests.listeners;
+
+import com.api.tests.logging.FailureLog;
+import org.slf4j.MDC;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Tags log events with the running test (the "test" MDC key, a field in the JSON log format)
+ * and writes the request/response bodies of a test to the log only when it fails
+ */
+public class FailureLogListener implements ITestListener {
+    private static final String TEST_KEY = "test";
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        MDC.put(TEST_KEY, result.getMethod().getMethodName());
+        FailureLog.clear();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        FailureLog.flush(result.getMethod().getQualifiedName());
+        finish();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish();
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finish();
+    }
+
+    private void finish() {
+        FailureLog.clear();
+        MDC.remove(TEST_KEY);
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.tests.listeners;
+
+import com.api.tests.client.ApiClient;
+import com.api.tests.config.ConfigManager;
+import com.api.tests.metrics.LatencyReport;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Prints the per-endpoint latency percentiles when a suite ends and writes them to
+ * metrics.dir/latency.json, so builds can be compared with each other.
+ */
+@Slf4j
+public class LatencyReportListener implements ISuiteListener {
+    @Override
+    public void onStart(ISuite suite) {
+        ApiClient.getLatencyRecorder().reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ConfigManager.isMetricsEnabled()) {
+            return;
+        }
+        LatencyReport report = ApiClient.getLatencyRecorder().snapshot();
+        if (report.isEmpty()) {
+            return;
+        }
+        report.print();
+
+        Path file = Paths.get(ConfigManager.getMetricsDirectory(), LatencyReport.FILE_NAME);
+        try {
+            report.write(file);
+            log.info("Latency report written to {}", file);
+        } catch (IOException e) {
+            log.warn("Could not write latency report to {}", file, e);
+        }
+    }
+}
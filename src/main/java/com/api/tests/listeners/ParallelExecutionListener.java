@@ -0,0 +1,31 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies the parallel mode and thread counts from ConfigManager to every suite before it runs,
+ * so they can be tuned with -Dparallel.mode / -Dparallel.thread.count instead of editing testng.xml.
+ */
+@Slf4j
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(ConfigManager.getParallelMode());
+        int threadCount = ConfigManager.getThreadCount();
+        int dataProviderThreadCount = ConfigManager.getDataProviderThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(dataProviderThreadCount);
+            log.info("Suite '{}' runs with parallel={}, threads={}, data provider threads={}",
+                    suite.getName(), mode, threadCount, dataProviderThreadCount);
+        }
+    }
+}
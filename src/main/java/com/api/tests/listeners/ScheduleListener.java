@@ -0,0 +1,95 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.scheduling.TestScheduler;
+import com.api.tests.sharding.Shard;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the test history before the suite, runs the test methods in {@link TestScheduler} order,
+ * and records every method's and data provider row's duration and outcome into the history afterwards.
+ * The rows themselves are ordered by {@link DataProviderRowListener}.
+ */
+@Slf4j
+public class ScheduleListener implements IMethodInterceptor, ISuiteListener, ITestListener {
+    private final Path historyFile = TestScheduler.historyFile(Shard.fromConfig());
+
+    @Override
+    public void onStart(ISuite suite) {
+        TestScheduler.load(historyFile);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            TestScheduler.save(historyFile);
+        } catch (IOException e) {
+            log.warn("Could not write test history to {}", historyFile, e);
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigManager.isScheduleEnabled()) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = TestScheduler.schedule(methods, instance -> key(instance.getMethod()));
+        log.debug("Test methods of '{}' in scheduled order: {}", context.getName(), ordered.stream()
+                .map(instance -> instance.getMethod().getMethodName())
+                .collect(Collectors.toList()));
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // Not recorded, but its row is no longer pending
+        if (result.getMethod().isDataDriven()) {
+            TestScheduler.originalRow(key(result.getMethod()), result.getParameters());
+        }
+    }
+
+    private static void record(ITestResult result, boolean failed) {
+        ITestNGMethod method = result.getMethod();
+        String methodKey = key(method);
+        String rowKey = null;
+        // The rows were registered by DataProviderRowListener as they were handed to TestNG
+        if (method.isDataDriven()) {
+            int row = TestScheduler.originalRow(methodKey, result.getParameters());
+            if (row >= 0) {
+                rowKey = Shard.rowKey(method.getRealClass().getName(), method.getMethodName(), row);
+            } else if (log.isDebugEnabled()) {
+                log.debug("No scheduled row of {} ran with {}; recording the method only",
+                        methodKey, Arrays.toString(result.getParameters()));
+            }
+        }
+        TestScheduler.record(methodKey, rowKey, result.getStartMillis(), result.getEndMillis(), failed);
+    }
+
+    private static String key(ITestNGMethod method) {
+        return Shard.methodKey(method.getRealClass().getName(), method.getMethodName());
+    }
+}
@@ -0,0 +1,43 @@
+package com.api.tests.listeners;
+
+import com.api.tests.sharding.Shard;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs only this JVM's {@link Shard} of the suite when -Dshard.count is above 1.
+ * Plain test methods are assigned whole; data-driven methods stay in every shard
+ * and each of their rows is assigned on its own by {@link DataProviderRowListener},
+ * so one large data provider is spread out too.
+ */
+@Slf4j
+public class ShardListener implements IMethodInterceptor {
+    private final Shard shard = Shard.fromConfig();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!shard.isSharded()) {
+            return methods;
+        }
+        List<IMethodInstance> owned = new ArrayList<>(methods.size());
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (method.isDataDriven() || shard.owns(key(method))) {
+                owned.add(instance);
+            }
+        }
+        log.info("{} of '{}': {} of {} test methods, data provider rows split by row",
+                shard, context.getName(), owned.size(), methods.size());
+        return owned;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return Shard.methodKey(method.getRealClass().getName(), method.getMethodName());
+    }
+}
@@ -0,0 +1,20 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.utils.JsonDataReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Parses the JSON test data files in parallel before the first test, so data providers only hit the cache.
+ * Data sets with a binary snapshot are mapped on first use instead.
+ */
+public class TestDataPreloadListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigManager.isTestDataPreloadEnabled()) {
+            JsonDataReader.preload();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.api.tests.listeners;
+
+import com.api.tests.sharding.Shard;
+import com.api.tests.utils.TestDataGenerator;
+import org.testng.IDataProviderListener;
+import org.testng.IDataProviderMethod;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+
+/**
+ * Reseeds {@link TestDataGenerator} before every data provider and test invocation from a key that is the same
+ * in every run: the method, plus the row's values for a data-driven method. A test then gets the same
+ * generated data for the same testdata.seed whichever thread it lands on.
+ */
+public class TestDataSeedListener implements IDataProviderListener, ITestListener {
+
+    @Override
+    public void beforeDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method,
+                                            ITestContext context) {
+        TestDataGenerator.reseed(key(method) + "#" + dataProviderMethod.getName());
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ITestNGMethod method = result.getMethod();
+        // Rows of a parallel data provider run in no fixed order, so a row is known by its values
+        TestDataGenerator.reseed(method.isDataDriven()
+                ? key(method) + Arrays.deepToString(result.getParameters())
+                : key(method));
+    }
+
+    private static String key(ITestNGMethod method) {
+        return Shard.methodKey(method.getRealClass().getName(), method.getMethodName());
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.tests.load;
+
+import com.api.tests.config.ConfigManager;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Shape of a load run: which workload, which model, how hard and for how long
+ */
+@Value
+@Builder
+public class LoadProfile {
+
+    public enum Model {
+        /** A fixed number of virtual users, each starting its next scenario as soon as the last one ends */
+        CLOSED,
+        /** Scenarios start at a target arrival rate, regardless of how long earlier ones take */
+        OPEN
+    }
+
+    Model model;
+    int users;
+    double targetRps;
+    Duration duration;
+    Duration rampUp;
+    int maxInFlight;
+    List<String> testClasses;
+
+    public static LoadProfile fromConfig() {
+        return LoadProfile.builder()
+                .model(Model.valueOf(ConfigManager.getLoadModel().toUpperCase(Locale.ROOT)))
+                .users(ConfigManager.getLoadUsers())
+                .targetRps(ConfigManager.getLoadTargetRps())
+                .duration(Duration.ofSeconds(ConfigManager.getLoadDurationSeconds()))
+                .rampUp(Duration.ofSeconds(ConfigManager.getLoadRampUpSeconds()))
+                .maxInFlight(ConfigManager.getLoadMaxInFlight())
+                .testClasses(Arrays.asList(ConfigManager.getLoadTestClasses().split(",")))
+                .build();
+    }
+}
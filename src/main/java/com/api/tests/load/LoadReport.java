@@ -0,0 +1,66 @@
+package com.api.tests.load;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.metrics.LatencyRecorder;
+import com.api.tests.metrics.LatencyReport;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-endpoint latencies and scenario outcomes during a load run
+ */
+@Slf4j
+public class LoadReport {
+    public static final String REPORT_FILE = "load-latency.json";
+
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final Map<String, LongAdder> scenarioFailures = new ConcurrentHashMap<>();
+    private final LongAdder scenariosCompleted = new LongAdder();
+    private final LongAdder arrivalsDropped = new LongAdder();
+
+    public LatencyRecorder getLatencies() {
+        return latencies;
+    }
+
+    public void scenarioPassed() {
+        scenariosCompleted.increment();
+    }
+
+    public void scenarioFailed(Scenario scenario) {
+        scenariosCompleted.increment();
+        scenarioFailures.computeIfAbsent(scenario.getName(), k -> new LongAdder()).increment();
+    }
+
+    public void arrivalDropped() {
+        arrivalsDropped.increment();
+    }
+
+    public long getFailedScenarios() {
+        return scenarioFailures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public void print(long elapsedNanos) {
+        LatencyReport report = latencies.snapshot();
+        report.print();
+
+        double seconds = elapsedNanos / 1e9;
+        log.info("Scenarios: {} completed ({}/s), {} failed, {} open-model arrivals dropped",
+                scenariosCompleted.sum(), String.format("%.1f", scenariosCompleted.sum() / seconds),
+                getFailedScenarios(), arrivalsDropped.sum());
+        scenarioFailures.forEach((name, count) -> log.info("  {} failed {} times", name, count.sum()));
+
+        Path file = Paths.get(ConfigManager.getMetricsDirectory(), REPORT_FILE);
+        try {
+            report.write(file);
+            log.info("Load latency report written to {}", file);
+        } catch (IOException e) {
+            log.warn("Could not write load latency report to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.api.tests.load;
+
+import com.api.tests.client.ApiClient;
+import com.api.tests.config.ConfigManager;
+import com.api.tests.server.LocalApiServer;
+import com.api.tests.utils.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the functional test scenarios as a load test through the same ApiClient.
+ * Run with: mvn -Pload test-compile exec:java
+ */
+@Slf4j
+public class LoadRunner {
+    private final LoadProfile profile;
+    private final Workload workload;
+    private final LoadReport report = new LoadReport();
+
+    public LoadRunner(LoadProfile profile, Workload workload) {
+        this.profile = profile;
+        this.workload = workload;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadProfile profile = LoadProfile.fromConfig();
+        LoadReport report;
+        if (ConfigManager.isLocalServer()) {
+            LocalApiServer.start();
+        }
+        try {
+            report = new LoadRunner(profile, Workload.fromTestClasses(profile.getTestClasses())).run();
+        } finally {
+            if (ConfigManager.isLocalServer()) {
+                LocalApiServer.stop();
+            }
+        }
+        // Failed scenarios are only fatal when asked for: under stress some assertions are expected to trip
+        if (report.getFailedScenarios() > 0 && ConfigManager.isLoadFailOnError()) {
+            throw new IllegalStateException(report.getFailedScenarios() + " scenarios failed under load");
+        }
+    }
+
+    /**
+     * Drive the workload for the configured duration and print the per-endpoint results
+     * @return the collected report
+     */
+    public LoadReport run() throws InterruptedException {
+        log.info("Starting {} model load: users={}, rps={}, duration={}s, ramp-up={}s",
+                profile.getModel(), profile.getUsers(), profile.getTargetRps(),
+                profile.getDuration().getSeconds(), profile.getRampUp().getSeconds());
+
+        ApiClient.addExchangeListener(report.getLatencies());
+        report.getLatencies().reset();
+        long start = System.nanoTime();
+        try {
+            if (profile.getModel() == LoadProfile.Model.CLOSED) {
+                runClosed(start);
+            } else {
+                runOpen(start);
+            }
+        } finally {
+            ApiClient.removeExchangeListener(report.getLatencies());
+        }
+        report.print(System.nanoTime() - start);
+        return report;
+    }
+
+    // Each virtual user starts after its share of the ramp-up and then loops back to back
+    private void runClosed(long start) throws InterruptedException {
+        long deadline = start + profile.getDuration().toNanos();
+        long stagger = profile.getRampUp().toNanos() / Math.max(1, profile.getUsers());
+        ExecutorService users = newExecutor("load-user-", profile.getUsers());
+
+        for (int i = 0; i < profile.getUsers(); i++) {
+            long startAt = start + i * stagger;
+            users.execute(() -> {
+                LockSupport.parkNanos(startAt - System.nanoTime());
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    execute(workload.next());
+                }
+            });
+        }
+        users.shutdown();
+        awaitDrain(users);
+    }
+
+    // Arrivals are paced by the clock, ramping linearly up to the target rate; a slow
+    // system therefore builds up in-flight work instead of silently lowering the load
+    private void runOpen(long start) throws InterruptedException {
+        long deadline = start + profile.getDuration().toNanos();
+        long rampUp = profile.getRampUp().toNanos();
+        Semaphore inFlight = new Semaphore(profile.getMaxInFlight());
+        ExecutorService workers = newExecutor("load-worker-", 0);
+
+        long nextArrival = start;
+        while (nextArrival < deadline) {
+            LockSupport.parkNanos(nextArrival - System.nanoTime());
+            if (inFlight.tryAcquire()) {
+                Scenario scenario = workload.next();
+                workers.execute(() -> {
+                    try {
+                        execute(scenario);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } else {
+                report.arrivalDropped();
+            }
+
+            long elapsed = nextArrival - start;
+            double rate = rampUp > 0 && elapsed < rampUp
+                    ? Math.max(1.0, profile.getTargetRps() * elapsed / rampUp)
+                    : profile.getTargetRps();
+            nextArrival += (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        }
+        workers.shutdown();
+        awaitDrain(workers);
+    }
+
+    private void execute(Scenario scenario) {
+        try {
+            scenario.run();
+            report.scenarioPassed();
+        } catch (Throwable t) {
+            report.scenarioFailed(scenario);
+            log.debug("Scenario {} failed", scenario, t);
+        }
+    }
+
+    private void awaitDrain(ExecutorService executor) throws InterruptedException {
+        if (!executor.awaitTermination(profile.getDuration().getSeconds() + 60, TimeUnit.SECONDS)) {
+            log.warn("Load workers still busy after the run, abandoning them");
+            executor.shutdownNow();
+        }
+    }
+
+    // threads <= 0 means unbounded (open model, limited by the in-flight semaphore instead)
+    private static ExecutorService newExecutor(String prefix, int threads) {
+        if (VirtualThreads.isEnabled()) {
+            return VirtualThreads.newThreadPerTaskExecutor(prefix);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return threads > 0 ? Executors.newFixedThreadPool(threads, factory) : Executors.newCachedThreadPool(factory);
+    }
+}
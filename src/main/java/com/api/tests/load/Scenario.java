@@ -0,0 +1,41 @@
+package com.api.tests.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * One replayable unit of load: a TestNG test method bound to one data-provider row
+ */
+public class Scenario {
+    private final Object testInstance;
+    private final Method testMethod;
+    private final Object[] arguments;
+
+    public Scenario(Object testInstance, Method testMethod, Object[] arguments) {
+        this.testInstance = testInstance;
+        this.testMethod = testMethod;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Run the test method once
+     * @throws Throwable whatever the test method threw, typically an AssertionError
+     */
+    public void run() throws Throwable {
+        try {
+            testMethod.invoke(testInstance, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public String getName() {
+        return testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
+    }
+
+    @Override
+    public String toString() {
+        return getName() + Arrays.toString(arguments);
+    }
+}
@@ -0,0 +1,106 @@
+package com.api.tests.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The scenarios of one or more TestNG test classes, expanded over their data providers.
+ * Load runs replay these exactly as the functional suite would call them.
+ */
+@Slf4j
+public class Workload {
+    private final List<Scenario> scenarios;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private Workload(List<Scenario> scenarios) {
+        this.scenarios = Collections.unmodifiableList(scenarios);
+    }
+
+    public static Workload fromTestClasses(List<String> classNames) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                Class<?> testClass = Class.forName(className.trim());
+                Object instance = testClass.getDeclaredConstructor().newInstance();
+                for (Method method : testClass.getMethods()) {
+                    Test test = method.getAnnotation(Test.class);
+                    if (test != null && test.enabled()) {
+                        addScenarios(scenarios, instance, method, test);
+                    }
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot load test class " + className, e);
+            }
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No @Test methods found in " + classNames);
+        }
+        log.info("Workload has {} scenarios from {}", scenarios.size(), classNames);
+        return new Workload(scenarios);
+    }
+
+    /**
+     * @return the next scenario in round-robin order; safe to call from many threads
+     */
+    public Scenario next() {
+        return scenarios.get((int) (cursor.getAndIncrement() % scenarios.size()));
+    }
+
+    public List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    private static void addScenarios(List<Scenario> scenarios, Object instance, Method method, Test test)
+            throws ReflectiveOperationException {
+        if (test.dataProvider().isEmpty()) {
+            scenarios.add(new Scenario(instance, method, new Object[0]));
+            return;
+        }
+
+        Class<?> providerClass = test.dataProviderClass() == Object.class
+                ? method.getDeclaringClass() : test.dataProviderClass();
+        Method provider = findDataProvider(providerClass, test.dataProvider());
+        if (provider == null || provider.getParameterCount() > 0) {
+            log.warn("Skipping {}: data provider '{}' not found or needs parameters", method.getName(), test.dataProvider());
+            return;
+        }
+
+        Object target = Modifier.isStatic(provider.getModifiers()) ? null : instance;
+        Object rows;
+        try {
+            rows = provider.invoke(target);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Data provider '" + test.dataProvider() + "' failed", e.getCause());
+        }
+        if (rows instanceof Object[][]) {
+            for (Object[] row : (Object[][]) rows) {
+                scenarios.add(new Scenario(instance, method, row));
+            }
+        } else if (rows instanceof Iterator) {
+            for (Iterator<?> it = (Iterator<?>) rows; it.hasNext(); ) {
+                scenarios.add(new Scenario(instance, method, (Object[]) it.next()));
+            }
+        }
+    }
+
+    private static Method findDataProvider(Class<?> providerClass, String name) {
+        for (Method candidate : providerClass.getMethods()) {
+            DataProvider dataProvider = candidate.getAnnotation(DataProvider.class);
+            if (dataProvider != null && (name.equals(dataProvider.name())
+                    || (dataProvider.name().isEmpty() && name.equals(candidate.getName())))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
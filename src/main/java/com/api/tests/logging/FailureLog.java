@@ -0,0 +1,122 @@
+package com.api.tests.logging;
+
+import com.api.tests.config.ConfigManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The last few request/response pairs of the running test, kept per thread and only written to the log
+ * when the test fails. Passing tests cost a reference per request and no formatting at all.
+ * An async response is recorded into the buffer of the thread that sent the request, see {@link #buffer()}.
+ */
+@Slf4j
+public final class FailureLog {
+    private static final int capacity = ConfigManager.getFailureLogExchanges();
+    private static final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    private FailureLog() {
+    }
+
+    public static void record(String method, String uri, Object requestBody, Response response) {
+        record(method, uri, requestBody, response.getStatusLine(), response::asString);
+    }
+
+    /**
+     * @param responseBody only called when the test fails
+     */
+    public static void record(String method, String uri, Object requestBody, String statusLine,
+                              Supplier<String> responseBody) {
+        buffers.get().record(method, uri, requestBody, statusLine, responseBody);
+    }
+
+    /**
+     * @return the current thread's buffer, to record an exchange into it that completes on another thread
+     */
+    public static Buffer buffer() {
+        return buffers.get();
+    }
+
+    public static void clear() {
+        buffers.get().clear();
+    }
+
+    /**
+     * Log the buffered exchanges of the current thread's test, oldest first, and forget them
+     */
+    public static void flush(String testName) {
+        List<Exchange> exchanges = buffers.get().drain();
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        log.error("{} failed; its last {} HTTP exchange(s):", testName, exchanges.size());
+        for (Exchange exchange : exchanges) {
+            log.error("{} {} -> {}\nRequest body: {}\nResponse body: {}",
+                    exchange.method, exchange.uri, exchange.statusLine,
+                    bodyOf(exchange.requestBody), exchange.responseBody.get());
+        }
+    }
+
+    private static String bodyOf(Object body) {
+        if (body == null) {
+            return "<none>";
+        }
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+    }
+
+    /**
+     * One test thread's last exchanges; async responses may add to it from other threads
+     */
+    public static final class Buffer {
+        private final Deque<Exchange> exchanges = new ArrayDeque<>();
+
+        private Buffer() {
+        }
+
+        /**
+         * @see FailureLog#record(String, String, Object, String, Supplier)
+         */
+        public synchronized void record(String method, String uri, Object requestBody, String statusLine,
+                                        Supplier<String> responseBody) {
+            if (capacity <= 0) {
+                return;
+            }
+            if (exchanges.size() == capacity) {
+                exchanges.removeFirst();
+            }
+            exchanges.addLast(new Exchange(method, uri, requestBody, statusLine, responseBody));
+        }
+
+        synchronized void clear() {
+            exchanges.clear();
+        }
+
+        synchronized List<Exchange> drain() {
+            List<Exchange> drained = new ArrayList<>(exchanges);
+            exchanges.clear();
+            return drained;
+        }
+    }
+
+    private static final class Exchange {
+        final String method;
+        final String uri;
+        final Object requestBody;
+        final String statusLine;
+        final Supplier<String> responseBody;
+
+        Exchange(String method, String uri, Object requestBody, String statusLine, Supplier<String> responseBody) {
+            this.method = method;
+            this.uri = uri;
+            this.requestBody = requestBody;
+            this.statusLine = statusLine;
+            this.responseBody = responseBody;
+        }
+    }
+}
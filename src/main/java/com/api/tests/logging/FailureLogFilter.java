@@ -0,0 +1,21 @@
+package com.api.tests.logging;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Hands every exchange to {@link FailureLog}; nothing is formatted unless the test fails
+ */
+public class FailureLogFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        FailureLog.record(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody(), response);
+        return response;
+    }
+}
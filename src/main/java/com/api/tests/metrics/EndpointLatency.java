@@ -0,0 +1,91 @@
+package com.api.tests.metrics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Latency percentiles and throughput of one endpoint, verb and status class, in milliseconds
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointLatency {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private String endpoint;
+    private String path;
+    private String method;
+    private String statusClass;
+    private long count;
+    private double throughput;
+    private double mean;
+    private double p50;
+    private double p90;
+    private double p95;
+    private double p99;
+    private double p999;
+    private double max;
+    // Base64 of the compressed HdrHistogram in nanos, so the reports of several shards can be merged;
+    // missing in reports written before sharding
+    private String histogram;
+
+    /**
+     * Percentiles of {@code histogram}, with throughput over {@code seconds}
+     */
+    public static EndpointLatency of(LatencyKey key, Histogram histogram, double seconds) {
+        ByteBuffer encoded = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        histogram.encodeIntoCompressedByteBuffer(encoded);
+        return EndpointLatency.builder()
+                .endpoint(key.getEndpoint().name())
+                .path(key.getEndpoint().getPath())
+                .method(key.getMethod())
+                .statusClass(key.getStatusClass())
+                .count(histogram.getTotalCount())
+                .throughput(histogram.getTotalCount() / seconds)
+                .mean(histogram.getMean() / NANOS_PER_MILLI)
+                .p50(millis(histogram, 50))
+                .p90(millis(histogram, 90))
+                .p95(millis(histogram, 95))
+                .p99(millis(histogram, 99))
+                .p999(millis(histogram, 99.9))
+                .max(histogram.getMaxValue() / NANOS_PER_MILLI)
+                .histogram(Base64.getEncoder().encodeToString(
+                        Arrays.copyOf(encoded.array(), encoded.position())))
+                .build();
+    }
+
+    @JsonIgnore
+    public String getKey() {
+        return method + " " + path + " " + statusClass;
+    }
+
+    /**
+     * @throws IllegalStateException when the report was written without histograms
+     */
+    @JsonIgnore
+    public Histogram decodeHistogram() {
+        if (histogram == null) {
+            throw new IllegalStateException("No histogram stored for " + getKey());
+        }
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(histogram)), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt histogram stored for " + getKey(), e);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,39 @@
+package com.api.tests.metrics;
+
+import com.api.tests.enums.ApiEndpoint;
+import lombok.Value;
+
+/**
+ * What a latency sample is grouped by: endpoint, HTTP verb and status class
+ */
+@Value
+public class LatencyKey implements Comparable<LatencyKey> {
+    ApiEndpoint endpoint;
+    String method;
+    String statusClass;
+
+    public static LatencyKey of(ApiEndpoint endpoint, String method, int statusCode) {
+        return new LatencyKey(endpoint, method, statusClass(statusCode));
+    }
+
+    /**
+     * @return "2xx", "4xx", ... or "error" when no response came back at all
+     */
+    public static String statusClass(int statusCode) {
+        return statusCode < 100 || statusCode > 599 ? "error" : (statusCode / 100) + "xx";
+    }
+
+    @Override
+    public int compareTo(LatencyKey other) {
+        int result = endpoint.compareTo(other.endpoint);
+        if (result == 0) {
+            result = method.compareTo(other.method);
+        }
+        return result != 0 ? result : statusClass.compareTo(other.statusClass);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint.getPath() + " " + statusClass;
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.tests.metrics;
+
+import com.api.tests.client.ExchangeListener;
+import com.api.tests.enums.ApiEndpoint;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records every exchange into an HdrHistogram per endpoint, verb and status class.
+ * Recording is wait-free, so it can sit on the request path of every test thread.
+ */
+public class LatencyRecorder implements ExchangeListener {
+    private final Map<LatencyKey, Recorder> recorders = new ConcurrentHashMap<>();
+    // Everything handed out by earlier snapshots, so each snapshot covers the whole run
+    private final Map<LatencyKey, Histogram> totals = new TreeMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    @Override
+    public void onExchange(ApiEndpoint endpoint, String method, int statusCode, long durationNanos) {
+        recorders.computeIfAbsent(LatencyKey.of(endpoint, method, statusCode), key -> new Recorder(3))
+                .recordValue(Math.max(0, durationNanos));
+    }
+
+    /**
+     * Forget everything recorded so far and restart the throughput clock
+     */
+    public synchronized void reset() {
+        recorders.values().forEach(Recorder::reset);
+        totals.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * @return percentiles and throughput of everything recorded since creation or the last reset
+     */
+    public synchronized LatencyReport snapshot() {
+        recorders.forEach((key, recorder) -> {
+            Histogram interval = recorder.getIntervalHistogram();
+            totals.computeIfAbsent(key, k -> new Histogram(3)).add(interval);
+        });
+
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        LatencyReport report = LatencyReport.builder()
+                .timestamp(Instant.now().toString())
+                .durationSeconds(seconds)
+                .build();
+        totals.forEach((key, histogram) -> report.getEndpoints().add(EndpointLatency.of(key, histogram, seconds)));
+        return report;
+    }
+}
@@ -0,0 +1,85 @@
+package com.api.tests.metrics;
+
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.utils.MapperRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of all latency histograms of a run, as printed at suite end and stored as JSON
+ */
+@Slf4j
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyReport {
+    public static final String FILE_NAME = "latency.json";
+
+    private String timestamp;
+    private double durationSeconds;
+    @Builder.Default
+    private List<EndpointLatency> endpoints = new ArrayList<>();
+
+    public static LatencyReport read(Path file) throws IOException {
+        return MapperRegistry.reader(LatencyReport.class).readValue(file.toFile());
+    }
+
+    /**
+     * Combine the reports of shards that ran side by side: histograms of the same endpoint, verb and
+     * status class are added up, and throughput is over the longest shard's duration
+     */
+    public static LatencyReport merge(List<LatencyReport> reports) {
+        Map<LatencyKey, Histogram> merged = new TreeMap<>();
+        double seconds = 1e-9;
+        for (LatencyReport report : reports) {
+            seconds = Math.max(seconds, report.getDurationSeconds());
+            for (EndpointLatency latency : report.getEndpoints()) {
+                LatencyKey key = new LatencyKey(ApiEndpoint.valueOf(latency.getEndpoint()),
+                        latency.getMethod(), latency.getStatusClass());
+                merged.computeIfAbsent(key, k -> new Histogram(3)).add(latency.decodeHistogram());
+            }
+        }
+        double duration = seconds;
+        LatencyReport result = LatencyReport.builder()
+                .timestamp(Instant.now().toString())
+                .durationSeconds(duration)
+                .build();
+        merged.forEach((key, histogram) -> result.getEndpoints().add(EndpointLatency.of(key, histogram, duration)));
+        return result;
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MapperRegistry.writer(LatencyReport.class).withDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public void print() {
+        log.info(String.format("%-30s %8s %8s %9s %9s %9s %9s %9s",
+                "Latency (ms)", "Count", "Req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (EndpointLatency latency : endpoints) {
+            log.info(String.format("%-30s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    latency.getKey(), latency.getCount(), latency.getThroughput(), latency.getP50(),
+                    latency.getP90(), latency.getP99(), latency.getP999(), latency.getMax()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.tests.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The latency reports of the last few accepted runs, one small JSON file per run.
+ * Comparing against several runs instead of just the previous one keeps a single noisy build
+ * from becoming the yardstick.
+ */
+@Slf4j
+public class PerformanceBaseline {
+    private static final String PREFIX = "run-";
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+    private final int maxRuns;
+
+    public PerformanceBaseline(Path directory, int maxRuns) {
+        this.directory = directory;
+        this.maxRuns = maxRuns;
+    }
+
+    /**
+     * @return the stored runs, oldest first
+     */
+    public List<LatencyReport> load() throws IOException {
+        List<LatencyReport> runs = new ArrayList<>();
+        for (Path file : runFiles()) {
+            try {
+                runs.add(LatencyReport.read(file));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable baseline run {}", file, e);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Add a run and drop the oldest ones beyond the configured history size
+     */
+    public void add(LatencyReport report) throws IOException {
+        Files.createDirectories(directory);
+        report.write(directory.resolve(PREFIX + System.currentTimeMillis() + SUFFIX));
+
+        List<Path> files = runFiles();
+        for (int i = 0; i < files.size() - maxRuns; i++) {
+            Files.delete(files.get(i));
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private List<Path> runFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            // Millisecond timestamps in the name, so sorting by name is sorting by age
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.api.tests.metrics;
+
+import com.api.tests.config.ConfigManager;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Fails the build when p95/p99 latencies drift above the baseline of earlier runs.
+ * Run after the suite with: mvn -Pperf-gate verify
+ *
+ * A group only counts as slower when it exceeds the baseline median by the relative tolerance,
+ * by noise.factor times the spread of the baseline runs, and by min.delta.ms, so ordinary
+ * jitter between runs doesn't fail the build.
+ */
+@Slf4j
+public class PerformanceGate {
+    // Scales the median absolute deviation to a standard deviation for normal-ish data
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    private final double p95Tolerance;
+    private final double p99Tolerance;
+    private final double noiseFactor;
+    private final double minDeltaMillis;
+    private final int minRuns;
+    private final long minCount;
+
+    public PerformanceGate(double p95Tolerance, double p99Tolerance, double noiseFactor,
+                           double minDeltaMillis, int minRuns, long minCount) {
+        this.p95Tolerance = p95Tolerance;
+        this.p99Tolerance = p99Tolerance;
+        this.noiseFactor = noiseFactor;
+        this.minDeltaMillis = minDeltaMillis;
+        this.minRuns = minRuns;
+        this.minCount = minCount;
+    }
+
+    public static PerformanceGate fromConfig() {
+        return new PerformanceGate(ConfigManager.getPerfGateP95Tolerance(), ConfigManager.getPerfGateP99Tolerance(),
+                ConfigManager.getPerfGateNoiseFactor(), ConfigManager.getPerfGateMinDeltaMillis(),
+                ConfigManager.getPerfGateMinRuns(), ConfigManager.getPerfGateMinCount());
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path reportFile = Paths.get(ConfigManager.getMetricsDirectory(), LatencyReport.FILE_NAME);
+        if (!Files.exists(reportFile)) {
+            throw new IllegalStateException("No latency report at " + reportFile + ", run the test suite first");
+        }
+        LatencyReport current = LatencyReport.read(reportFile);
+        PerformanceBaseline baseline = new PerformanceBaseline(
+                Paths.get(ConfigManager.getPerfBaselineDirectory()), ConfigManager.getPerfBaselineRuns());
+
+        List<Comparison> comparisons = fromConfig().compare(current, baseline.load());
+        print(comparisons);
+
+        List<Comparison> regressions = comparisons.stream().filter(Comparison::isRegressed).collect(Collectors.toList());
+        if (!regressions.isEmpty()) {
+            // A slow run is kept out of the baseline so it can't drag the yardstick up
+            throw new IllegalStateException(regressions.size() + " latency regression(s) against "
+                    + baseline.getDirectory() + ":\n" + regressions.stream()
+                    .map(Comparison::toString).collect(Collectors.joining("\n")));
+        }
+        baseline.add(current);
+        log.info("Performance gate passed, run added to baseline {}", baseline.getDirectory());
+    }
+
+    /**
+     * Compare p95 and p99 of every group in the current run with the baseline runs
+     * @return one comparison per group and percentile that had enough samples and history
+     */
+    public List<Comparison> compare(LatencyReport current, List<LatencyReport> baselineRuns) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (EndpointLatency latency : current.getEndpoints()) {
+            if (latency.getCount() < minCount || "error".equals(latency.getStatusClass())) {
+                continue;
+            }
+            List<EndpointLatency> history = baselineRuns.stream()
+                    .flatMap(run -> run.getEndpoints().stream())
+                    .filter(past -> past.getKey().equals(latency.getKey()) && past.getCount() >= minCount)
+                    .collect(Collectors.toList());
+            if (history.size() < minRuns) {
+                log.info("{}: only {} comparable baseline runs, need {}", latency.getKey(), history.size(), minRuns);
+                continue;
+            }
+            comparisons.add(compare(latency, history, "p95", EndpointLatency::getP95, p95Tolerance));
+            comparisons.add(compare(latency, history, "p99", EndpointLatency::getP99, p99Tolerance));
+        }
+        return comparisons;
+    }
+
+    private Comparison compare(EndpointLatency current, List<EndpointLatency> history, String percentile,
+                               ToDoubleFunction<EndpointLatency> metric, double tolerance) {
+        double[] values = history.stream().mapToDouble(metric).toArray();
+        double median = median(values);
+        double sigma = MAD_TO_SIGMA * median(Arrays.stream(values).map(value -> Math.abs(value - median)).toArray());
+        double limit = Math.max(median * (1 + tolerance), Math.max(median + noiseFactor * sigma, median + minDeltaMillis));
+        double value = metric.applyAsDouble(current);
+        return new Comparison(current.getKey(), percentile, median, sigma, limit, value, value > limit);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static void print(List<Comparison> comparisons) {
+        if (comparisons.isEmpty()) {
+            log.info("Performance gate: nothing to compare yet, the baseline is still being built");
+            return;
+        }
+        log.info(String.format("%-30s %4s %10s %8s %10s %10s %8s",
+                "Latency (ms)", "", "baseline", "+/-", "limit", "current", "change"));
+        for (Comparison comparison : comparisons) {
+            log.info(comparison.toString());
+        }
+    }
+
+    /**
+     * One percentile of one group, against the median of the baseline runs
+     */
+    @Value
+    public static class Comparison {
+        String key;
+        String percentile;
+        double baseline;
+        double noise;
+        double limit;
+        double current;
+        boolean regressed;
+
+        @Override
+        public String toString() {
+            return String.format("%-30s %4s %10.2f %8.2f %10.2f %10.2f %+7.1f%%%s", key, percentile, baseline, noise,
+                    limit, current, (current / baseline - 1) * 100, regressed ? "  REGRESSED" : "");
+        }
+    }
+}
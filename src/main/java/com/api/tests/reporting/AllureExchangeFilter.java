@@ -0,0 +1,65 @@
+package com.api.tests.reporting;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Drop-in for AllureRestAssured that only captures the exchange on the test thread and leaves
+ * rendering and writing the attachments to {@link AllureExchangeReporter}.
+ */
+public class AllureExchangeFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        if (!AllureExchangeReporter.shouldReport(response.statusCode())) {
+            return response;
+        }
+
+        String statusLine = response.getStatusLine();
+        AllureExchangeReporter.submit(HttpExchange.builder()
+                .method(requestSpec.getMethod())
+                .url(requestSpec.getURI())
+                .requestHeaders(toMap(requestSpec.getHeaders()))
+                .requestBody(bodyOf(requestSpec.getBody()))
+                .statusCode(response.statusCode())
+                .statusLine(statusLine)
+                .responseHeaders(toMap(response.getHeaders()))
+                .responseBody(response.asByteArray())
+                .requestSource(AllureExchangeReporter.prepareRequest())
+                .responseSource(AllureExchangeReporter.prepareResponse(statusLine))
+                .build());
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static Map<String, String> toMap(Headers headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (Header header : headers) {
+            map.put(header.getName(), header.getValue());
+        }
+        return map;
+    }
+
+    // ApiClient sends the cached body bytes; the report wants them as text
+    private static String bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+    }
+}
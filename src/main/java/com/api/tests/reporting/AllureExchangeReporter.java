@@ -0,0 +1,278 @@
+package com.api.tests.reporting;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.utils.MapperRegistry;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.qameta.allure.model.Attachment;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Writes HTTP exchanges to allure-results off the test threads. The test thread only decides whether the
+ * exchange is reported at all and registers its two attachments with the running test; rendering the
+ * templates and writing the files happens on one background thread, in batches drained from a bounded queue.
+ * When the queue is full the test thread writes the exchange itself, so nothing is dropped.
+ * <p>
+ * Failed exchanges (status 400 and up, or no response) are always reported, successful ones at
+ * allure.exchange.sample.rate. Bodies above allure.exchange.max.body.bytes are cut off.
+ */
+@Slf4j
+public final class AllureExchangeReporter {
+    private static final String HTML = "text/html";
+    private static final String HTML_EXTENSION = ".html";
+    // Name of a prepared response attachment until its status line is known
+    private static final String PENDING_RESPONSE = "Response";
+    private static final int BATCH_SIZE = 64;
+
+    private static final double sampleRate = ConfigManager.getAllureExchangeSampleRate();
+    private static final int maxBodyBytes = ConfigManager.getAllureExchangeMaxBodyBytes();
+    private static final BlockingQueue<HttpExchange> queue =
+            new ArrayBlockingQueue<>(ConfigManager.getAllureExchangeQueueCapacity());
+    // Queued plus being written; flush() waits for it to drop to 0
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final LongAdder reported = new LongAdder();
+    private static final LongAdder sampledOut = new LongAdder();
+    private static final LongAdder writtenInline = new LongAdder();
+    private static final ThreadLocal<FreemarkerAttachmentRenderer> requestRenderer =
+            ThreadLocal.withInitial(() -> new FreemarkerAttachmentRenderer("http-request.ftl"));
+    private static final ThreadLocal<FreemarkerAttachmentRenderer> responseRenderer =
+            ThreadLocal.withInitial(() -> new FreemarkerAttachmentRenderer("http-response.ftl"));
+
+    static {
+        Thread writer = new Thread(AllureExchangeReporter::writeLoop, "allure-exchange-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(5_000), "allure-exchange-flush"));
+    }
+
+    private AllureExchangeReporter() {
+    }
+
+    /**
+     * @return false when the exchange is sampled out or no test is running, so the caller can skip capturing it
+     */
+    public static boolean shouldReport(int statusCode) {
+        return Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent() && isSampled(statusCode);
+    }
+
+    /**
+     * Register the attachments of an exchange with the current test before it is sent, for a response
+     * that completes on another thread; see {@link PreparedExchange#submit}
+     * @return null when no test is running
+     */
+    public static PreparedExchange prepareAsync() {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> owner = lifecycle.getCurrentTestCaseOrStep();
+        if (owner.isEmpty()) {
+            return null;
+        }
+        return new PreparedExchange(owner.get(), owner.equals(lifecycle.getCurrentTestCase()),
+                prepareRequest(), prepareResponse(PENDING_RESPONSE));
+    }
+
+    private static boolean isSampled(int statusCode) {
+        if (statusCode == 0 || statusCode >= 400 || sampleRate >= 1
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return true;
+        }
+        sampledOut.increment();
+        return false;
+    }
+
+    /**
+     * Queue the exchange for writing
+     * @param exchange built with the sources from {@link #prepareRequest()} and {@link #prepareResponse(String)}
+     */
+    public static void submit(HttpExchange exchange) {
+        reported.increment();
+        pending.incrementAndGet();
+        if (!queue.offer(exchange)) {
+            writtenInline.increment();
+            write(exchange);
+        }
+    }
+
+    /**
+     * Register the request attachment with the current test; the file itself is written later
+     * @return the attachment source to put in the {@link HttpExchange}
+     */
+    public static String prepareRequest() {
+        return Allure.getLifecycle().prepareAttachment("Request", HTML, HTML_EXTENSION);
+    }
+
+    /**
+     * @see #prepareRequest()
+     */
+    public static String prepareResponse(String statusLine) {
+        return Allure.getLifecycle().prepareAttachment(statusLine, HTML, HTML_EXTENSION);
+    }
+
+    /**
+     * Wait until every queued exchange is on disk
+     * @return false if that took longer than {@code timeoutMillis}
+     */
+    public static boolean flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+        while (pending.get() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("{} HTTP exchanges still not written to allure-results after {} ms", pending.get(), timeoutMillis);
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return e.g. "reported=120, sampledOut=380, writtenInline=0"
+     */
+    public static String stats() {
+        return String.format("reported=%d, sampledOut=%d, writtenInline=%d",
+                reported.sum(), sampledOut.sum(), writtenInline.sum());
+    }
+
+    private static void writeLoop() {
+        List<HttpExchange> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            for (HttpExchange exchange : batch) {
+                write(exchange);
+            }
+            batch.clear();
+        }
+    }
+
+    private static void write(HttpExchange exchange) {
+        try {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            // The Allure builders reject null bodies and headers, so those are only set when present
+            HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", exchange.getUrl())
+                    .setMethod(exchange.getMethod());
+            if (exchange.getRequestHeaders() != null) {
+                request.setHeaders(exchange.getRequestHeaders());
+            }
+            String requestBody = truncate(exchange.getRequestBody());
+            if (requestBody != null) {
+                request.setBody(requestBody);
+            }
+            lifecycle.writeAttachment(exchange.getRequestSource(), render(requestRenderer.get(), request.build()));
+
+            HttpResponseAttachment.Builder response = HttpResponseAttachment.Builder.create(exchange.getStatusLine())
+                    .setUrl(exchange.getUrl())
+                    .setResponseCode(exchange.getStatusCode());
+            if (exchange.getResponseHeaders() != null) {
+                response.setHeaders(exchange.getResponseHeaders());
+            }
+            String responseBody = responseBody(exchange.getResponseBody());
+            if (responseBody != null) {
+                response.setBody(responseBody);
+            }
+            lifecycle.writeAttachment(exchange.getResponseSource(), render(responseRenderer.get(), response.build()));
+        } catch (RuntimeException e) {
+            log.warn("Could not write Allure attachments for {} {}", exchange.getMethod(), exchange.getUrl(), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * The attachments of an exchange registered on the test thread while the request is still in flight.
+     * The test is updated through its uuid, which is how Allure lets other threads change it.
+     */
+    public static final class PreparedExchange {
+        private final String owner;
+        private final boolean testCase;
+        private final String requestSource;
+        private final String responseSource;
+
+        private PreparedExchange(String owner, boolean testCase, String requestSource, String responseSource) {
+            this.owner = owner;
+            this.testCase = testCase;
+            this.requestSource = requestSource;
+            this.responseSource = responseSource;
+        }
+
+        /**
+         * Queue the exchange for writing, under the same sampling rules as {@link #shouldReport(int)};
+         * a sampled out exchange takes its attachments off the test again
+         * @param exchange everything but the attachment sources
+         */
+        public void submit(HttpExchange.HttpExchangeBuilder exchange) {
+            HttpExchange prepared = exchange.requestSource(requestSource).responseSource(responseSource).build();
+            if (!isSampled(prepared.getStatusCode())) {
+                updateAttachments(attachments -> attachments.removeIf(attachment ->
+                        requestSource.equals(attachment.getSource()) || responseSource.equals(attachment.getSource())));
+                return;
+            }
+            updateAttachments(attachments -> attachments.stream()
+                    .filter(attachment -> responseSource.equals(attachment.getSource()))
+                    .forEach(attachment -> attachment.setName(prepared.getStatusLine())));
+            AllureExchangeReporter.submit(prepared);
+        }
+
+        private void updateAttachments(Consumer<List<Attachment>> update) {
+            if (testCase) {
+                Allure.getLifecycle().updateTestCase(owner, result -> update.accept(result.getAttachments()));
+            } else {
+                Allure.getLifecycle().updateStep(owner, step -> update.accept(step.getAttachments()));
+            }
+        }
+    }
+
+    private static ByteArrayInputStream render(FreemarkerAttachmentRenderer renderer, AttachmentData data) {
+        AttachmentContent content = renderer.render(data);
+        return new ByteArrayInputStream(content.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Pretty-printed when it's JSON and small enough, since that's what people read in the report
+    private static String responseBody(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        if (body.length > maxBodyBytes) {
+            return truncate(new String(body, StandardCharsets.UTF_8));
+        }
+        try {
+            return MapperRegistry.mapper().writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(MapperRegistry.mapper().readTree(body));
+        } catch (IOException notJson) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String truncate(String body) {
+        if (body == null || body.length() <= maxBodyBytes) {
+            return body;
+        }
+        return body.substring(0, maxBodyBytes)
+                + String.format("%n... truncated, %d of %d characters shown", maxBodyBytes, body.length());
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.tests.reporting;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * One request/response pair captured on the test thread, rendered and written to allure-results later.
+ * The attachment sources are already registered with the test, only their files are still missing.
+ */
+@Value
+@Builder
+public class HttpExchange {
+    String method;
+    String url;
+    Map<String, String> requestHeaders;
+    String requestBody;
+    int statusCode;
+    String statusLine;
+    Map<String, String> responseHeaders;
+    byte[] responseBody;
+    String requestSource;
+    String responseSource;
+}
@@ -0,0 +1,69 @@
+package com.api.tests.resilience;
+
+import com.api.tests.enums.ApiEndpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint circuit breaker. After {@code failureThreshold} failures in a row (5xx or no response at all)
+ * the circuit opens and calls fail fast for {@code openMillis}, instead of every test waiting out the same
+ * timeouts against an endpoint that is down. Then a single trial call is let through: success closes the
+ * circuit, failure opens it again. Lock-free: the state is one timestamp and one counter.
+ */
+@Slf4j
+public class CircuitBreaker {
+    private static final long CLOSED = 0;
+
+    private final ApiEndpoint endpoint;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // CLOSED, or the System.nanoTime() at which the open circuit lets a trial call through
+    private final AtomicLong openUntil = new AtomicLong(CLOSED);
+
+    public CircuitBreaker(ApiEndpoint endpoint, int failureThreshold, long openMillis) {
+        this.endpoint = endpoint;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * @throws CircuitOpenException while the circuit is open, or another call is already the trial
+     */
+    public void acquirePermission() {
+        long until = openUntil.get();
+        if (until == CLOSED) {
+            return;
+        }
+        long now = System.nanoTime();
+        // Half-open: exactly one caller moves the deadline forward and becomes the trial call
+        if (now - until < 0 || !openUntil.compareAndSet(until, now + openMillis * 1_000_000)) {
+            throw new CircuitOpenException(endpoint, Math.max(0, (openUntil.get() - now) / 1_000_000));
+        }
+        log.info("Circuit for {} half-open, sending a trial request", endpoint);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openUntil.getAndSet(CLOSED) != CLOSED) {
+            log.info("Circuit for {} closed again", endpoint);
+        }
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold) {
+            long until = System.nanoTime() + openMillis * 1_000_000;
+            if (openUntil.getAndSet(until) == CLOSED) {
+                log.warn("Circuit for {} opened after {} consecutive failures; failing fast for {} ms",
+                        endpoint, failures, openMillis);
+            }
+        }
+    }
+
+    public boolean isOpen() {
+        return openUntil.get() != CLOSED;
+    }
+}
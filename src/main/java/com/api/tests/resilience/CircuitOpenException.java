@@ -0,0 +1,15 @@
+package com.api.tests.resilience;
+
+import com.api.tests.enums.ApiEndpoint;
+
+/**
+ * Thrown instead of sending a request while the endpoint's circuit breaker is open
+ */
+public class CircuitOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(ApiEndpoint endpoint, long retryInMillis) {
+        super(String.format("Circuit for %s is open after repeated failures; not sending requests for another %d ms",
+                endpoint, retryInMillis));
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.tests.resilience;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+/**
+ * Running latency percentile of one endpoint, recomputed at most every 100 ms so asking for it on every request stays cheap
+ */
+final class LatencyEstimator {
+    private static final long REFRESH_NANOS = 100_000_000;
+
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(2);
+    private volatile long cachedNanos = -1;
+    private volatile long refreshAt = System.nanoTime();
+
+    void record(long nanos) {
+        histogram.recordValue(nanos);
+    }
+
+    /**
+     * @return the latency at {@code percentile} in nanos, or -1 until {@code minSamples} responses have been seen
+     */
+    long percentileNanos(double percentile, long minSamples) {
+        long now = System.nanoTime();
+        if (now - refreshAt >= 0) {
+            refreshAt = now + REFRESH_NANOS;
+            cachedNanos = histogram.getTotalCount() < minSamples ? -1 : histogram.getValueAtPercentile(percentile);
+        }
+        return cachedNanos;
+    }
+}
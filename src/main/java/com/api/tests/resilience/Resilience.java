@@ -0,0 +1,206 @@
+package com.api.tests.resilience;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.utils.VirtualThreads;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Wraps a single HTTP exchange with the resilience rules from config:
+ * <ul>
+ *     <li>a per-endpoint {@link CircuitBreaker} that fails fast while the endpoint keeps failing</li>
+ *     <li>a Retry-After on 429/503 pauses the endpoint in {@link Throttle} and replaces the backoff</li>
+ *     <li>retries of idempotent requests on transient statuses and I/O errors, per {@link RetryPolicy}</li>
+ *     <li>optionally, hedged GETs: when the first attempt is slower than the endpoint's recent p95,
+ *     a second identical request is sent and whichever answers first wins</li>
+ * </ul>
+ */
+@Slf4j
+public final class Resilience {
+    private static final RetryPolicy retryPolicy = RetryPolicy.fromConfig();
+    private static final boolean hedgingEnabled = ConfigManager.isHedgingEnabled();
+    private static final double hedgePercentile = ConfigManager.getHedgePercentile();
+    private static final long hedgeMinDelayNanos = ConfigManager.getHedgeMinDelayMillis() * 1_000_000;
+    private static final long hedgeMinSamples = ConfigManager.getHedgeMinSamples();
+
+    private static final Map<ApiEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(ApiEndpoint.class);
+    private static final Map<ApiEndpoint, LatencyEstimator> latencies = new EnumMap<>(ApiEndpoint.class);
+    private static final ExecutorService hedgeExecutor = VirtualThreads.isEnabled()
+            ? VirtualThreads.newThreadPerTaskExecutor("api-hedge-vt-")
+            : Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "api-hedge");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        // A disabled breaker is one that never reaches its threshold
+        int failureThreshold = ConfigManager.isCircuitBreakerEnabled() ? ConfigManager.getCircuitFailureThreshold() : Integer.MAX_VALUE;
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            circuitBreakers.put(endpoint, new CircuitBreaker(endpoint, failureThreshold, ConfigManager.getCircuitOpenMillis()));
+            latencies.put(endpoint, new LatencyEstimator());
+        }
+    }
+
+    private Resilience() {
+    }
+
+    /**
+     * @param call sends the request once and returns its response
+     * @param statusOf status code of a response
+     * @param retryAfterOf Retry-After header of a response, or null
+     * @return the first response that isn't worth retrying, or the last one when attempts run out
+     * @throws CircuitOpenException when the endpoint's circuit is open
+     */
+    public static <R> R execute(ApiEndpoint endpoint, String method, Supplier<R> call,
+                                ToIntFunction<R> statusOf, Function<R, String> retryAfterOf) {
+        return execute(endpoint, method, call, statusOf, retryAfterOf, response -> { });
+    }
+
+    /**
+     * {@link #execute(ApiEndpoint, String, Supplier, ToIntFunction, Function)} for responses that hold a connection
+     * until they are closed, such as streamed bodies
+     * @param discard closes a response that isn't handed back: one that gets retried, or the slower of two hedged GETs
+     */
+    public static <R> R execute(ApiEndpoint endpoint, String method, Supplier<R> call,
+                                ToIntFunction<R> statusOf, Function<R, String> retryAfterOf, Consumer<R> discard) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        for (int attempt = 1; ; attempt++) {
+            circuitBreaker.acquirePermission();
+            R response;
+            try {
+                response = "GET".equals(method) && hedgingEnabled ? hedged(endpoint, call, discard) : timed(endpoint, call);
+            } catch (Exception e) {
+                circuitBreaker.onFailure();
+                if (!retryPolicy.shouldRetry(method, attempt, e)) {
+                    throw e;
+                }
+                log.warn("{} {} failed on attempt {}: {}; retrying", method, endpoint, attempt, e.toString());
+                backoff(attempt);
+                continue;
+            }
+
+            int status = statusOf.applyAsInt(response);
+            if (status >= 500) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            long pausedMillis = status == 429 || status == 503
+                    ? Throttle.onThrottled(endpoint, retryAfterOf.apply(response))
+                    : -1;
+            if (!retryPolicy.shouldRetry(method, attempt, status)) {
+                return response;
+            }
+            log.warn("{} {} returned {} on attempt {}; retrying", method, endpoint, status, attempt);
+            discard.accept(response);
+            // With a Retry-After the throttle already holds the next attempt back
+            if (pausedMillis < 0) {
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * @return the endpoint's circuit breaker, e.g. to check whether it is open
+     */
+    public static CircuitBreaker circuitBreaker(ApiEndpoint endpoint) {
+        return circuitBreakers.get(endpoint);
+    }
+
+    private static <R> R timed(ApiEndpoint endpoint, Supplier<R> call) {
+        long start = System.nanoTime();
+        R response = call.get();
+        latencies.get(endpoint).record(System.nanoTime() - start);
+        return response;
+    }
+
+    private static <R> R hedged(ApiEndpoint endpoint, Supplier<R> call, Consumer<R> discard) {
+        long delay = latencies.get(endpoint).percentileNanos(hedgePercentile, hedgeMinSamples);
+        if (delay < 0) {
+            return timed(endpoint, call);
+        }
+        Supplier<R> inContext = inCurrentAllureTest(() -> timed(endpoint, call));
+        CompletableFuture<R> primary = CompletableFuture.supplyAsync(inContext, hedgeExecutor);
+        try {
+            return primary.get(Math.max(delay, hedgeMinDelayNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("GET {} slower than p{} ({} ms), sending a hedged request",
+                    endpoint, hedgePercentile, delay / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GET " + endpoint, e);
+        } catch (ExecutionException e) {
+            throw sneakyThrow(e.getCause());
+        }
+
+        // First success wins; an error only counts once both requests have failed
+        CompletableFuture<R> backup = CompletableFuture.supplyAsync(inContext, hedgeExecutor);
+        CompletableFuture<R> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        BiConsumer<R, Throwable> race = (response, error) -> {
+            if (error == null) {
+                if (!winner.complete(response)) {
+                    discard.accept(response);
+                }
+            } else if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(error);
+            }
+        };
+        primary.whenComplete(race);
+        backup.whenComplete(race);
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GET " + endpoint, e);
+        } catch (ExecutionException e) {
+            throw sneakyThrow(e.getCause());
+        }
+    }
+
+    // Hedged requests run on other threads; point them at the caller's Allure test so their attachments land there
+    private static <R> Supplier<R> inCurrentAllureTest(Supplier<R> call) {
+        if (!ConfigManager.isAllureReportingEnabled()) {
+            return call;
+        }
+        Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+        return () -> {
+            testCase.ifPresent(Allure.getLifecycle()::setCurrentTestCase);
+            return call.get();
+        };
+    }
+
+    private static void backoff(int attempt) {
+        long delay = retryPolicy.backoffMillis(attempt);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before a retry", e);
+        }
+    }
+
+    // RestAssured throws checked IOExceptions without declaring them; rethrow the original, not a wrapper
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(Throwable error) throws E {
+        throw (E) error;
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.tests.resilience;
+
+import com.api.tests.config.ConfigManager;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * When and how long to wait before sending a request again. Only idempotent methods are retried,
+ * so a POST that timed out is never sent twice. The exception is 429: the server turned the request
+ * away without processing it, so any method may be sent again.
+ */
+@Value
+@Builder
+public class RetryPolicy {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+
+    boolean enabled;
+    int maxAttempts;
+    long baseDelayMillis;
+    long maxDelayMillis;
+    Set<Integer> retryableStatuses;
+
+    public static RetryPolicy fromConfig() {
+        return RetryPolicy.builder()
+                .enabled(ConfigManager.isRetryEnabled())
+                .maxAttempts(ConfigManager.getRetryMaxAttempts())
+                .baseDelayMillis(ConfigManager.getRetryBaseDelayMillis())
+                .maxDelayMillis(ConfigManager.getRetryMaxDelayMillis())
+                .retryableStatuses(Arrays.stream(ConfigManager.getRetryStatuses().split(","))
+                        .map(String::trim)
+                        .filter(status -> !status.isEmpty())
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toUnmodifiableSet()))
+                .build();
+    }
+
+    /**
+     * @param attempt the attempt that just finished, starting at 1
+     */
+    public boolean shouldRetry(String method, int attempt, int statusCode) {
+        return retryableStatuses.contains(statusCode)
+                && (statusCode == TOO_MANY_REQUESTS ? canRetry(attempt) : canRetry(method, attempt));
+    }
+
+    /**
+     * Connection failures and timeouts are transient; anything else (assertions, open circuits, bugs) is not
+     */
+    public boolean shouldRetry(String method, int attempt, Throwable error) {
+        return canRetry(method, attempt) && (error instanceof IOException || error instanceof UncheckedIOException);
+    }
+
+    /**
+     * Exponential backoff with full jitter, so parallel threads that failed together don't retry together
+     * @param attempt the attempt that just finished, starting at 1
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private boolean canRetry(String method, int attempt) {
+        return canRetry(attempt) && IDEMPOTENT_METHODS.contains(method);
+    }
+
+    private boolean canRetry(int attempt) {
+        return enabled && attempt < maxAttempts;
+    }
+}
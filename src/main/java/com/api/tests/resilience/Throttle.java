@@ -0,0 +1,195 @@
+package com.api.tests.resilience;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.enums.ApiEndpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side rate and concurrency limits, so parallel and bulk runs stay under the server's throttling
+ * instead of collecting 429s. Each request takes a slot from the global {@link TokenBucket} and from its
+ * endpoint's, then a permit from the global and the endpoint's max-in-flight {@link Semaphore}.
+ * A Retry-After from the server pauses the endpoint's bucket until then.
+ * <p>
+ * Everything is unlimited by default; see the throttle.* settings.
+ */
+@Slf4j
+public final class Throttle {
+    private static final Permit NO_PERMIT = () -> { };
+
+    private static final TokenBucket globalBucket =
+            new TokenBucket(ConfigManager.getThrottleRps(), ConfigManager.getThrottleBurst());
+    private static final Semaphore globalInFlight = semaphore(ConfigManager.getThrottleMaxInFlight());
+    private static final Map<ApiEndpoint, TokenBucket> buckets = new EnumMap<>(ApiEndpoint.class);
+    private static final Map<ApiEndpoint, Semaphore> inFlight = new EnumMap<>(ApiEndpoint.class);
+    // Async requests that have to wait do so here rather than on the caller's or the HttpClient's threads
+    private static final Executor waitingExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "api-throttle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            buckets.put(endpoint, new TokenBucket(ConfigManager.getThrottleRps(endpoint), ConfigManager.getThrottleBurst()));
+            Semaphore semaphore = semaphore(ConfigManager.getThrottleMaxInFlight(endpoint));
+            if (semaphore != null) {
+                inFlight.put(endpoint, semaphore);
+            }
+        }
+    }
+
+    private Throttle() {
+    }
+
+    /**
+     * Held while a request is in flight; closing it frees the concurrency slot
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Wait for a rate slot and an in-flight permit for one request to the endpoint
+     */
+    public static Permit acquire(ApiEndpoint endpoint) {
+        long delay = reserve(endpoint);
+        if (delay > 0) {
+            sleep(delay);
+        }
+        return inFlightPermit(endpoint);
+    }
+
+    /**
+     * Non-blocking {@link #acquire}: completes at once when a slot is free, otherwise waits off the caller's thread
+     */
+    public static CompletableFuture<Permit> acquireAsync(ApiEndpoint endpoint) {
+        long delay = reserve(endpoint);
+        if (delay == 0) {
+            Permit permit = tryInFlightPermit(endpoint);
+            if (permit != null) {
+                return CompletableFuture.completedFuture(permit);
+            }
+        }
+        Executor executor = delay > 0
+                ? CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, waitingExecutor)
+                : waitingExecutor;
+        return CompletableFuture.supplyAsync(() -> inFlightPermit(endpoint), executor);
+    }
+
+    /**
+     * Honour the server asking us to slow down: no request goes to the endpoint before the Retry-After time
+     * @param retryAfter the Retry-After header, in seconds or as an HTTP date; null is ignored
+     * @return how long the endpoint is paused in millis, or -1 when there was no usable header
+     */
+    public static long onThrottled(ApiEndpoint endpoint, String retryAfter) {
+        long millis = parseRetryAfterMillis(retryAfter);
+        if (millis >= 0) {
+            buckets.get(endpoint).pauseUntil(System.nanoTime() + millis * 1_000_000);
+            log.warn("Server asked to retry {} after {} ms; pausing requests to it", endpoint, millis);
+        }
+        return millis;
+    }
+
+    static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+            } catch (DateTimeParseException notDate) {
+                log.debug("Ignoring unparseable Retry-After '{}'", retryAfter);
+                return -1;
+            }
+        }
+    }
+
+    // Both buckets hand out a slot; the request waits for the later of the two
+    private static long reserve(ApiEndpoint endpoint) {
+        long delay = Math.max(globalBucket.reserve(), buckets.get(endpoint).reserve());
+        if (delay > 0) {
+            log.debug("Throttling {} for {} ms", endpoint, delay / 1_000_000);
+        }
+        return delay;
+    }
+
+    private static Permit inFlightPermit(ApiEndpoint endpoint) {
+        Semaphore endpointInFlight = inFlight.get(endpoint);
+        try {
+            if (globalInFlight != null) {
+                globalInFlight.acquire();
+            }
+            if (endpointInFlight != null) {
+                try {
+                    endpointInFlight.acquire();
+                } catch (InterruptedException e) {
+                    release(globalInFlight);
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight slot for " + endpoint, e);
+        }
+        return permit(endpointInFlight);
+    }
+
+    // null when either limit is full right now
+    private static Permit tryInFlightPermit(ApiEndpoint endpoint) {
+        Semaphore endpointInFlight = inFlight.get(endpoint);
+        if (globalInFlight != null && !globalInFlight.tryAcquire()) {
+            return null;
+        }
+        if (endpointInFlight != null && !endpointInFlight.tryAcquire()) {
+            release(globalInFlight);
+            return null;
+        }
+        return permit(endpointInFlight);
+    }
+
+    private static Permit permit(Semaphore endpointInFlight) {
+        if (globalInFlight == null && endpointInFlight == null) {
+            return NO_PERMIT;
+        }
+        return () -> {
+            release(endpointInFlight);
+            release(globalInFlight);
+        };
+    }
+
+    private static Semaphore semaphore(int permits) {
+        return permits > 0 ? new Semaphore(permits) : null;
+    }
+
+    private static void release(Semaphore semaphore) {
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate limit slot", e);
+        }
+    }
+}
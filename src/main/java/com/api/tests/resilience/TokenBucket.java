@@ -0,0 +1,86 @@
+package com.api.tests.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket, kept as a single "theoretical arrival time" (the GCRA form of a token bucket):
+ * each request moves it forward by one interval, and a request may go once it is no further than
+ * {@code burst} intervals ahead of now. Reserving is one CAS, so threads never queue on a lock here;
+ * they only sleep for the delay they were handed.
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond sustained rate; 0 or less means unlimited, but {@link #pauseUntil} still applies
+     * @param burst requests allowed back to back after an idle period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime the clock, in the same units as {@link System#nanoTime()}; tests pass a fake one
+     */
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoTime) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+        this.nanoTime = nanoTime;
+        this.theoreticalArrival = new AtomicLong(nanoTime.getAsLong() - burstNanos);
+    }
+
+    /**
+     * Take the next slot
+     * @return nanos to wait before sending, 0 to send now
+     */
+    public long reserve() {
+        long now = nanoTime.getAsLong();
+        if (intervalNanos == 0) {
+            return Math.max(0, theoreticalArrival.get() - now);
+        }
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, now - burstNanos);
+            if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(0, start - now);
+            }
+        }
+    }
+
+    /**
+     * Take the next slot only if it is free right now
+     */
+    public boolean tryReserve() {
+        long now = nanoTime.getAsLong();
+        if (intervalNanos == 0) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, now - burstNanos);
+            if (start - now > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hand out no slot before {@code nanoTime}, e.g. when the server answered with Retry-After
+     */
+    public void pauseUntil(long nanoTime) {
+        long current;
+        do {
+            current = theoreticalArrival.get();
+            if (current - nanoTime >= 0) {
+                return;
+            }
+        } while (!theoreticalArrival.compareAndSet(current, nanoTime));
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.tests.scheduling;
+
+import com.api.tests.utils.MapperRegistry;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Durations and failure rates of every test method and data provider row over earlier runs, kept in one JSON file.
+ * Keys are the ones {@link com.api.tests.sharding.Shard} hashes, e.g. "com.api.tests.BooksApiTest.testGetBookById[3]".
+ * Read once before the suite and written once after it, so it isn't synchronized.
+ */
+@Slf4j
+@Data
+@NoArgsConstructor
+public class TestHistory {
+    // Tests that haven't run for this many runs were most likely renamed or deleted
+    private static final int MAX_IDLE_RUNS = 50;
+
+    private int runs;
+    private Map<String, TestStats> tests = new TreeMap<>();
+
+    /**
+     * @return the stored history, or an empty one when the file is missing or unreadable
+     */
+    public static TestHistory load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new TestHistory();
+        }
+        try {
+            return MapperRegistry.reader(TestHistory.class).readValue(file.toFile());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable test history {}", file, e);
+            return new TestHistory();
+        }
+    }
+
+    /**
+     * Write to a temporary file first, so an interrupted run can't leave half a history behind
+     */
+    public void save(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        MapperRegistry.writer(TestHistory.class).withDefaultPrettyPrinter().writeValue(temporary.toFile(), this);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public TestStats get(String key) {
+        return tests.get(key);
+    }
+
+    /**
+     * Start recording a new run
+     */
+    public void startRun() {
+        runs++;
+    }
+
+    public void record(String key, double millis, boolean failed, double alpha) {
+        tests.computeIfAbsent(key, k -> new TestStats()).update(runs, millis, failed, alpha);
+    }
+
+    /**
+     * Forget the tests that haven't run for a long time
+     */
+    public void prune() {
+        tests.values().removeIf(stats -> runs - stats.getLastRun() > MAX_IDLE_RUNS);
+    }
+}
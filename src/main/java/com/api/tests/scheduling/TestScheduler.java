@@ -0,0 +1,213 @@
+package com.api.tests.scheduling;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.sharding.Shard;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Orders tests by their {@link TestHistory} so the worker threads finish together:
+ * <ol>
+ *     <li>tests that failed last time or fail often, so a broken build shows up in the first seconds</li>
+ *     <li>tests without history, since nothing says they're short</li>
+ *     <li>everything else, longest first</li>
+ * </ol>
+ * TestNG hands the next test to whichever thread is free, so longest-first order is the LPT
+ * (longest processing time) schedule: the short tests at the end fill the gaps instead of one long test
+ * starting last. The same order is applied to the methods of a suite and to the rows of each parallel data provider.
+ * <p>
+ * Durations of this run are collected while it runs and added to the history when it ends.
+ */
+@Slf4j
+public final class TestScheduler {
+    private static final double alpha = ConfigManager.getScheduleHistoryAlpha();
+    private static final double flakyThreshold = ConfigManager.getScheduleFlakyThreshold();
+
+    private static volatile TestHistory history = new TestHistory();
+    // This run's results, added to the history in save()
+    private static final Map<String, Sample> methods = new ConcurrentHashMap<>();
+    private static final Map<String, Sample> rows = new ConcurrentHashMap<>();
+    // Rows handed to TestNG whose result hasn't come in yet, with their original data provider row, per method key
+    private static final Map<String, List<ScheduledRow>> scheduledRows = new ConcurrentHashMap<>();
+
+    private TestScheduler() {
+    }
+
+    /**
+     * @return schedule.history.file, with the shard in the name when sharded, so shard JVMs don't share a file
+     */
+    public static Path historyFile(Shard shard) {
+        Path file = Paths.get(ConfigManager.getScheduleHistoryFile());
+        if (!shard.isSharded()) {
+            return file;
+        }
+        String name = file.getFileName().toString();
+        String suffix = ".shard-" + shard.getIndex() + "-of-" + shard.getCount();
+        int extension = name.lastIndexOf('.');
+        return file.resolveSibling(extension > 0
+                ? name.substring(0, extension) + suffix + name.substring(extension)
+                : name + suffix);
+    }
+
+    public static void load(Path file) {
+        history = TestHistory.load(file);
+        methods.clear();
+        rows.clear();
+        scheduledRows.clear();
+        log.info("Loaded test history of {} runs and {} tests from {}", history.getRuns(), history.getTests().size(), file);
+    }
+
+    /**
+     * Add this run to the history and write it
+     */
+    public static void save(Path file) throws IOException {
+        TestHistory updated = history;
+        updated.startRun();
+        methods.forEach((key, sample) -> updated.record(key, sample.millis(), sample.failed, alpha));
+        rows.forEach((key, sample) -> updated.record(key, sample.millis(), sample.failed, alpha));
+        updated.prune();
+        updated.save(file);
+        log.info("Test history of {} tests written to {}", updated.getTests().size(), file);
+    }
+
+    /**
+     * @param keyOf the history key of an item, see {@link Shard#methodKey} and {@link Shard#rowKey}
+     * @return the items in scheduling order; ties keep their original order
+     */
+    public static <T> List<T> schedule(Collection<T> items, Function<T, String> keyOf) {
+        return schedule(items, keyOf, history);
+    }
+
+    /**
+     * {@link #schedule(Collection, Function)} by the given history instead of the loaded one
+     */
+    public static <T> List<T> schedule(Collection<T> items, Function<T, String> keyOf, TestHistory history) {
+        List<Map.Entry<Priority, T>> prioritized = new ArrayList<>(items.size());
+        for (T item : items) {
+            prioritized.add(Map.entry(priority(history.get(keyOf.apply(item))), item));
+        }
+        prioritized.sort(Map.Entry.comparingByKey());
+        return prioritized.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    /**
+     * Remember a row of a data-driven method handed to TestNG, until {@link #originalRow} claims it
+     * @param originalRow the row's index in the data provider
+     */
+    public static void rowScheduled(String methodKey, Object[] values, int originalRow) {
+        scheduledRows.computeIfAbsent(methodKey, key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(new ScheduledRow(values, originalRow));
+    }
+
+    /**
+     * Claim the scheduled row an invocation ran with. TestNG hands tests a copy of the row,
+     * but with the same values, followed by any injected ones such as the ITestContext.
+     * @param parameters the invocation's parameters, see ITestResult#getParameters()
+     * @return the row's index in the data provider, or -1 when no scheduled row has these values
+     */
+    public static int originalRow(String methodKey, Object[] parameters) {
+        List<ScheduledRow> pending = scheduledRows.get(methodKey);
+        if (pending == null || parameters == null) {
+            return -1;
+        }
+        synchronized (pending) {
+            for (Iterator<ScheduledRow> iterator = pending.iterator(); iterator.hasNext(); ) {
+                ScheduledRow row = iterator.next();
+                if (row.isRunWith(parameters)) {
+                    iterator.remove();
+                    return row.originalRow;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Record one invocation of a test method; a data-driven method counts from its first row's start to its last row's end
+     * @param rowKey the row's key, or null for a method without data provider
+     */
+    public static void record(String methodKey, String rowKey, long startMillis, long endMillis, boolean failed) {
+        methods.compute(methodKey, (key, sample) -> sample == null
+                ? new Sample(startMillis, endMillis, failed)
+                : new Sample(Math.min(sample.start, startMillis), Math.max(sample.end, endMillis), sample.failed || failed));
+        if (rowKey != null) {
+            rows.put(rowKey, new Sample(startMillis, endMillis, failed));
+        }
+    }
+
+    private static Priority priority(TestStats stats) {
+        if (stats == null) {
+            return new Priority(1, 0);
+        }
+        boolean suspect = stats.isLastFailed() || stats.getFailureRate() >= flakyThreshold;
+        return new Priority(suspect ? 0 : 2, -stats.getMeanMillis());
+    }
+
+    private static final class ScheduledRow {
+        final Object[] values;
+        final int originalRow;
+
+        ScheduledRow(Object[] values, int originalRow) {
+            this.values = values;
+            this.originalRow = originalRow;
+        }
+
+        // Compared by identity: TestNG copies the array but not the values in it
+        boolean isRunWith(Object[] parameters) {
+            if (parameters.length < values.length) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (parameters[i] != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Sample {
+        final long start;
+        final long end;
+        final boolean failed;
+
+        Sample(long start, long end, boolean failed) {
+            this.start = start;
+            this.end = end;
+            this.failed = failed;
+        }
+
+        double millis() {
+            return Math.max(0, end - start);
+        }
+    }
+
+    // Lower sorts first: group, then longest first within it
+    private static final class Priority implements Comparable<Priority> {
+        final int group;
+        final double negativeMillis;
+
+        Priority(int group, double negativeMillis) {
+            this.group = group;
+            this.negativeMillis = negativeMillis;
+        }
+
+        @Override
+        public int compareTo(Priority other) {
+            int result = Integer.compare(group, other.group);
+            return result != 0 ? result : Double.compare(negativeMillis, other.negativeMillis);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.api.tests.scheduling;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What earlier runs tell about one test method or data provider row. Durations and failure rates are
+ * exponentially weighted, so recent runs count most and a fixed test stops looking flaky after a few green runs.
+ */
+@Data
+@NoArgsConstructor
+public class TestStats {
+    private int runs;
+    // The history's run number when this test last ran, to drop tests that were deleted or renamed
+    private int lastRun;
+    private double meanMillis;
+    private double failureRate;
+    private boolean lastFailed;
+
+    /**
+     * @param alpha weight of this run against all earlier ones, 0 to 1
+     */
+    void update(int run, double millis, boolean failed, double alpha) {
+        if (runs == 0) {
+            meanMillis = millis;
+            failureRate = failed ? 1 : 0;
+        } else {
+            meanMillis = alpha * millis + (1 - alpha) * meanMillis;
+            failureRate = alpha * (failed ? 1 : 0) + (1 - alpha) * failureRate;
+        }
+        runs++;
+        lastRun = run;
+        lastFailed = failed;
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.tests.server;
+
+import com.api.tests.config.ConfigManager;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Artificial per-request delay for the local server, drawn from a configurable distribution
+ */
+public class LatencyProfile {
+
+    public enum Distribution {
+        NONE, FIXED, UNIFORM, NORMAL, EXPONENTIAL, LOGNORMAL
+    }
+
+    private final Distribution distribution;
+    private final double meanMillis;
+    private final double stdDevMillis;
+    private final long maxMillis;
+
+    public LatencyProfile(Distribution distribution, double meanMillis, double stdDevMillis, long maxMillis) {
+        this.distribution = distribution;
+        this.meanMillis = meanMillis;
+        this.stdDevMillis = stdDevMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    public static LatencyProfile fromConfig() {
+        Distribution distribution = Distribution.valueOf(
+                ConfigManager.getMockLatencyDistribution().toUpperCase(Locale.ROOT));
+        return new LatencyProfile(distribution,
+                ConfigManager.getMockLatencyMeanMillis(),
+                ConfigManager.getMockLatencyStdDevMillis(),
+                ConfigManager.getMockLatencyMaxMillis());
+    }
+
+    /**
+     * @return the next delay in milliseconds, never negative and never above the configured cap
+     */
+    public long nextDelayMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double delay;
+        switch (distribution) {
+            case FIXED:
+                delay = meanMillis;
+                break;
+            case UNIFORM:
+                delay = random.nextDouble(0, 2 * meanMillis + Double.MIN_VALUE);
+                break;
+            case NORMAL:
+                delay = meanMillis + random.nextGaussian() * stdDevMillis;
+                break;
+            case EXPONENTIAL:
+                delay = -meanMillis * Math.log(1 - random.nextDouble());
+                break;
+            case LOGNORMAL:
+                // Parameters chosen so the resulting distribution has the configured mean and std dev
+                double variance = Math.log(1 + (stdDevMillis * stdDevMillis) / (meanMillis * meanMillis));
+                double mu = Math.log(meanMillis) - variance / 2;
+                delay = Math.exp(mu + Math.sqrt(variance) * random.nextGaussian());
+                break;
+            default:
+                return 0;
+        }
+        return Math.min(maxMillis, Math.max(0, Math.round(delay)));
+    }
+
+    public boolean isEnabled() {
+        return distribution != Distribution.NONE && meanMillis > 0;
+    }
+
+    @Override
+    public String toString() {
+        return distribution + "(mean=" + meanMillis + "ms, stddev=" + stdDevMillis + "ms, max=" + maxMillis + "ms)";
+    }
+}
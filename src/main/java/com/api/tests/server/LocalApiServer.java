@@ -0,0 +1,357 @@
+package com.api.tests.server;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.utils.MapperRegistry;
+import com.api.tests.utils.VirtualThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-process stand-in for the FakeRestAPI Books and Authors endpoints, used when base.url=local.
+ * Data is seeded deterministically from mock.seed, and every response can be delayed
+ * (mock.latency.*) or replaced by an injected error (mock.error.*).
+ */
+@Slf4j
+public class LocalApiServer {
+    private static final String BASE_PATH = "/api/v1";
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim"
+    };
+
+    private static LocalApiServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = MapperRegistry.mapper();
+    private final LatencyProfile latency = LatencyProfile.fromConfig();
+    private final double errorRate = ConfigManager.getMockErrorRate();
+    private final int errorStatus = ConfigManager.getMockErrorStatus();
+    private final String errorRetryAfter = ConfigManager.getMockErrorRetryAfter();
+    private final Map<String, Resource<?>> resources = new LinkedHashMap<>();
+
+    private LocalApiServer() throws IOException {
+        Resource<Book> books = new Resource<>(Book.class, Book::getId, Book::setId, LocalApiServer::validate);
+        Resource<Author> authors = new Resource<>(Author.class, Author::getId, Author::setId, LocalApiServer::validate);
+        seed(books, authors, ConfigManager.getMockSeed());
+        resources.put(ApiEndpoint.BOOKS.getResource(), books);
+        resources.put(ApiEndpoint.AUTHORS.getResource(), authors);
+
+        executor = VirtualThreads.isEnabled()
+                ? VirtualThreads.newThreadPerTaskExecutor("local-api-vt-")
+                : Executors.newFixedThreadPool(ConfigManager.getMockThreads(), runnable -> {
+                    Thread thread = new Thread(runnable, "local-api-server");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Headers and body are written separately; with Nagle on, every response waits for the client's delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), ConfigManager.getMockPort()), 0);
+        server.createContext(BASE_PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Start the shared server if it isn't running yet, and publish its address for ConfigManager.getBaseUrl()
+     * @return the running server
+     */
+    public static synchronized LocalApiServer start() {
+        if (instance == null) {
+            try {
+                instance = new LocalApiServer();
+            } catch (IOException e) {
+                throw new RuntimeException("Could not start local API server", e);
+            }
+            instance.server.start();
+            System.setProperty(ConfigManager.LOCAL_BASE_URL_PROPERTY, instance.getBaseUrl());
+            log.info("Local API server listening on {} (latency {}, error rate {})",
+                    instance.getBaseUrl(), instance.latency, instance.errorRate);
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            System.clearProperty(ConfigManager.LOCAL_BASE_URL_PROPERTY);
+            log.info("Local API server stopped");
+            instance = null;
+        }
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + BASE_PATH;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (latency.isEnabled()) {
+                Thread.sleep(latency.nextDelayMillis());
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                if (!errorRetryAfter.isEmpty()) {
+                    exchange.getResponseHeaders().set("Retry-After", errorRetryAfter);
+                }
+                sendProblem(exchange, errorStatus, "Injected failure");
+                return;
+            }
+
+            // /api/v1/Books or /api/v1/Books/{id}
+            String[] segments = exchange.getRequestURI().getPath().substring(BASE_PATH.length()).split("/");
+            Resource<?> resource = segments.length > 1 ? resources.get("/" + segments[1]) : null;
+            if (resource == null || segments.length > 3) {
+                sendProblem(exchange, 404, "Not Found");
+                return;
+            }
+            resource.handle(exchange, segments.length == 3 ? segments[2] : null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        // Weak validator over the body so clients can revalidate cached GETs with If-None-Match
+        if (status == 200 && "GET".equals(exchange.getRequestMethod())) {
+            String etag = "W/\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void sendProblem(HttpExchange exchange, int status, String title) throws IOException {
+        sendProblem(exchange, status, title, null);
+    }
+
+    // Same shape as the ASP.NET ProblemDetails the real service returns
+    private void sendProblem(HttpExchange exchange, int status, String title, Map<String, String> errors) throws IOException {
+        Map<String, Object> problem = new LinkedHashMap<>();
+        problem.put("title", title);
+        problem.put("status", status);
+        if (errors != null) {
+            problem.put("errors", errors);
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(problem);
+        exchange.getResponseHeaders().set("Content-Type", "application/problem+json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> validate(Book book) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (book.getTitle() == null || book.getTitle().isBlank()) {
+            errors.put("Title", "The Title field is required.");
+        }
+        if (book.getPageCount() < 0) {
+            errors.put("PageCount", "The PageCount field must not be negative.");
+        }
+        return errors;
+    }
+
+    private static Map<String, String> validate(Author author) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (author.getIdBook() <= 0) {
+            errors.put("IdBook", "The IdBook field must reference an existing book.");
+        }
+        if (author.getFirstName() == null || author.getFirstName().isBlank()) {
+            errors.put("FirstName", "The FirstName field is required.");
+        }
+        if (author.getLastName() == null || author.getLastName().isBlank()) {
+            errors.put("LastName", "The LastName field is required.");
+        }
+        return errors;
+    }
+
+    private static void seed(Resource<Book> books, Resource<Author> authors, long seed) {
+        Random random = new Random(seed);
+        Instant publishedBefore = Instant.parse("2024-01-01T00:00:00Z");
+        int bookCount = ConfigManager.getMockBookCount();
+
+        for (int id = 1; id <= bookCount; id++) {
+            books.insert(Book.builder()
+                    .id(id)
+                    .title("Book " + id)
+                    .description(sentence(random, 12))
+                    .pageCount(50 + random.nextInt(950))
+                    .excerpt(sentence(random, 40))
+                    .publishDate(publishedBefore.minus(random.nextInt(3650), ChronoUnit.DAYS).toString())
+                    .build());
+        }
+        for (int id = 1, authorCount = ConfigManager.getMockAuthorCount(); id <= authorCount; id++) {
+            authors.insert(Author.builder()
+                    .id(id)
+                    .idBook(1 + random.nextInt(bookCount))
+                    .firstName("First Name " + id)
+                    .lastName("Last Name " + id)
+                    .build());
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    /**
+     * One collection (/Books or /Authors) with its CRUD semantics
+     */
+    private final class Resource<T> {
+        private final Class<T> type;
+        private final ToIntFunction<T> idOf;
+        private final ObjIntConsumer<T> setId;
+        private final Function<T, Map<String, String>> validator;
+        private final NavigableMap<Integer, T> store = new ConcurrentSkipListMap<>();
+        private final AtomicInteger lastId = new AtomicInteger();
+
+        private Resource(Class<T> type, ToIntFunction<T> idOf, ObjIntConsumer<T> setId,
+                         Function<T, Map<String, String>> validator) {
+            this.type = type;
+            this.idOf = idOf;
+            this.setId = setId;
+            this.validator = validator;
+        }
+
+        private void insert(T entity) {
+            int id = idOf.applyAsInt(entity);
+            lastId.accumulateAndGet(id, Math::max);
+            store.put(id, entity);
+        }
+
+        // A POSTed id is ignored, so parallel tests can't overwrite the seeded entities or each other's
+        private void create(T entity) {
+            int id = lastId.incrementAndGet();
+            setId.accept(entity, id);
+            store.put(id, entity);
+        }
+
+        private void handle(HttpExchange exchange, String rawId) throws IOException {
+            String method = exchange.getRequestMethod();
+            if (rawId == null) {
+                switch (method) {
+                    case "GET":
+                        send(exchange, 200, store.values());
+                        return;
+                    case "POST":
+                        T created = readValid(exchange);
+                        if (created != null) {
+                            create(created);
+                            send(exchange, 200, created);
+                        }
+                        return;
+                    default:
+                        sendProblem(exchange, 405, "Method Not Allowed");
+                        return;
+                }
+            }
+
+            Integer id = parseId(rawId);
+            if (id == null) {
+                sendProblem(exchange, 400, "One or more validation errors occurred.",
+                        Map.of("id", "The value '" + rawId + "' is not valid."));
+                return;
+            }
+            switch (method) {
+                case "GET":
+                    T entity = store.get(id);
+                    if (entity == null) {
+                        sendProblem(exchange, 404, "Not Found");
+                    } else {
+                        send(exchange, 200, entity);
+                    }
+                    return;
+                case "PUT":
+                    T updated = readValid(exchange);
+                    if (updated == null) {
+                        return;
+                    }
+                    setId.accept(updated, id);
+                    if (store.replace(id, updated) == null) {
+                        sendProblem(exchange, 404, "Not Found");
+                    } else {
+                        send(exchange, 200, updated);
+                    }
+                    return;
+                case "DELETE":
+                    if (store.remove(id) == null) {
+                        sendProblem(exchange, 404, "Not Found");
+                    } else {
+                        send(exchange, 200, null);
+                    }
+                    return;
+                default:
+                    sendProblem(exchange, 405, "Method Not Allowed");
+            }
+        }
+
+        // Sends the 400 itself and returns null when the body is malformed or invalid
+        private T readValid(HttpExchange exchange) throws IOException {
+            T entity;
+            try (InputStream body = exchange.getRequestBody()) {
+                entity = MapperRegistry.reader(type).readValue(body);
+            } catch (IOException e) {
+                sendProblem(exchange, 400, "One or more validation errors occurred.",
+                        Map.of("body", "The request body is not a valid " + type.getSimpleName() + "."));
+                return null;
+            }
+            Map<String, String> errors = validator.apply(entity);
+            if (!errors.isEmpty()) {
+                sendProblem(exchange, 400, "One or more validation errors occurred.", errors);
+                return null;
+            }
+            return entity;
+        }
+
+        private Integer parseId(String rawId) {
+            try {
+                return Integer.valueOf(rawId);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
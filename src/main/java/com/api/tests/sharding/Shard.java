@@ -0,0 +1,80 @@
+package com.api.tests.sharding;
+
+import com.api.tests.config.ConfigManager;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One of {@code count} disjoint slices of the suite. Every test method, and every data-provider row,
+ * has a key that is hashed to exactly one shard; the hash only depends on the key, so all JVMs and CI
+ * agents agree on the split without talking to each other.
+ */
+@Value
+public class Shard {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    int index;
+    int count;
+
+    public Shard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be in [0, " + count + "), was " + index);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * @return the shard set with -Dshard.index / -Dshard.count; the whole suite when unset
+     */
+    public static Shard fromConfig() {
+        return new Shard(ConfigManager.getShardIndex(), ConfigManager.getShardCount());
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    public boolean owns(String key) {
+        return !isSharded() || shardOf(key, count) == index;
+    }
+
+    /**
+     * Key of a test method, e.g. "com.api.tests.BooksApiTest.testGetAllBooks"
+     */
+    public static String methodKey(String className, String methodName) {
+        return className + "." + methodName;
+    }
+
+    /**
+     * Key of one data-provider row: the method key and the row's position, e.g. "...testGetBookById[3]"
+     */
+    public static String rowKey(String className, String methodName, int row) {
+        return methodKey(className, methodName) + "[" + row + "]";
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, then the MurmurHash3 finalizer so keys that only differ
+     * in their last characters (rows 1, 2, 3...) still spread over all shards.
+     */
+    static int shardOf(String key, int count) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) count);
+    }
+
+    @Override
+    public String toString() {
+        return "shard " + (index + 1) + "/" + count;
+    }
+}
@@ -0,0 +1,184 @@
+package com.api.tests.sharding;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.metrics.LatencyReport;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Turns the results of several shards back into the ones of a single run. Expects one directory per shard
+ * (shard-0, shard-1, ...) under shard.dir, each with what a normal run leaves in target/:
+ * <ul>
+ *     <li>allure-results/: copied into one results directory; the file names are UUIDs, so they don't clash</li>
+ *     <li>metrics/latency.json: histograms added up into metrics.dir/latency.json, for the report and the perf gate</li>
+ *     <li>testng-results.xml, anywhere below: counted, and the failed tests listed</li>
+ * </ul>
+ * ShardRunner calls it after its JVMs finish; on CI run it after downloading every shard's artifacts:
+ * mvn -Pshards test-compile exec:java@merge-shards
+ */
+@Slf4j
+public final class ShardMerger {
+    private static final String TESTNG_RESULTS = "testng-results.xml";
+
+    private ShardMerger() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path shardDirectory = Paths.get(args.length > 0 ? args[0] : ConfigManager.getShardDirectory());
+        // Failed tests are only listed, like -Dmaven.test.failure.ignore on CI; ShardRunner fails the local build
+        merge(shardDirectory, allureResultsDirectory(), Paths.get(ConfigManager.getMetricsDirectory()));
+    }
+
+    /**
+     * @return where the merged Allure results go: allure.results.directory, as for a normal run
+     */
+    public static Path allureResultsDirectory() {
+        return Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+    }
+
+    /**
+     * Merge every shard-* directory below {@code shardDirectory}
+     * @return the test counts of all shards together
+     */
+    public static Summary merge(Path shardDirectory, Path allureResults, Path metricsDirectory) throws IOException {
+        List<Path> shards = shardDirectories(shardDirectory);
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("No shard-* directories found in " + shardDirectory.toAbsolutePath());
+        }
+
+        List<LatencyReport> latencies = new ArrayList<>();
+        Summary summary = new Summary(shards.size(), 0, 0, 0, 0, new ArrayList<>());
+        int attachments = 0;
+        for (Path shard : shards) {
+            attachments += copyAllureResults(shard.resolve("allure-results"), allureResults);
+            Path latency = shard.resolve("metrics").resolve(LatencyReport.FILE_NAME);
+            if (Files.isRegularFile(latency)) {
+                latencies.add(LatencyReport.read(latency));
+            }
+            summary = summary.plus(readTestResults(shard));
+        }
+
+        if (!latencies.isEmpty()) {
+            LatencyReport merged = LatencyReport.merge(latencies);
+            merged.print();
+            Path file = metricsDirectory.resolve(LatencyReport.FILE_NAME);
+            merged.write(file);
+            log.info("Latency report of {} shards written to {}", latencies.size(), file);
+        }
+        log.info("Merged {} Allure result files into {}", attachments, allureResults);
+        log.info("{} shards: {} tests, {} passed, {} failed, {} skipped", summary.getShards(), summary.getTotal(),
+                summary.getPassed(), summary.getFailed(), summary.getSkipped());
+        summary.getFailedTests().forEach(test -> log.error("FAILED: {}", test));
+        return summary;
+    }
+
+    private static List<Path> shardDirectories(Path shardDirectory) throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(shardDirectory)) {
+            return children.filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith("shard-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int copyAllureResults(Path from, Path to) throws IOException {
+        if (!Files.isDirectory(from)) {
+            return 0;
+        }
+        Files.createDirectories(to);
+        List<Path> files;
+        try (Stream<Path> children = Files.list(from)) {
+            files = children.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            // environment.properties and categories.json are the same in every shard, the rest are UUIDs
+            Files.copy(file, to.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return files.size();
+    }
+
+    // Every testng-results.xml below the shard: target/surefire-reports on CI, testng-output from ShardRunner
+    private static Summary readTestResults(Path shard) throws IOException {
+        List<Path> files;
+        try (Stream<Path> tree = Files.walk(shard)) {
+            files = tree.filter(file -> file.getFileName().toString().equals(TESTNG_RESULTS)).collect(Collectors.toList());
+        }
+        if (files.isEmpty()) {
+            log.warn("No {} in {}", TESTNG_RESULTS, shard);
+        }
+        Summary summary = new Summary(0, 0, 0, 0, 0, new ArrayList<>());
+        for (Path file : files) {
+            summary = summary.plus(parseTestResults(file));
+        }
+        return summary;
+    }
+
+    static Summary parseTestResults(Path file) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            Document document = factory.newDocumentBuilder().parse(file.toFile());
+            Element root = document.getDocumentElement();
+
+            List<String> failedTests = new ArrayList<>();
+            NodeList methods = document.getElementsByTagName("test-method");
+            for (int i = 0; i < methods.getLength(); i++) {
+                Element method = (Element) methods.item(i);
+                if ("FAIL".equals(method.getAttribute("status")) && !"true".equals(method.getAttribute("is-config"))) {
+                    Element testClass = (Element) method.getParentNode();
+                    failedTests.add(testClass.getAttribute("name") + "." + method.getAttribute("name"));
+                }
+            }
+            return new Summary(0, count(root, "total"), count(root, "passed"), count(root, "failed"),
+                    count(root, "skipped"), failedTests);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not read " + file, e);
+        }
+    }
+
+    private static int count(Element root, String attribute) {
+        String value = root.getAttribute(attribute);
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    /**
+     * Test counts of one or more shards
+     */
+    @Value
+    public static class Summary {
+        int shards;
+        int total;
+        int passed;
+        int failed;
+        int skipped;
+        List<String> failedTests;
+
+        Summary plus(Summary other) {
+            List<String> failures = new ArrayList<>(failedTests);
+            failures.addAll(other.failedTests);
+            return new Summary(shards + other.shards, total + other.total, passed + other.passed,
+                    failed + other.failed, skipped + other.skipped, failures);
+        }
+    }
+}
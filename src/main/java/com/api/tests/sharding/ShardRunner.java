@@ -0,0 +1,117 @@
+package com.api.tests.sharding;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.execution.VirtualThreadExecutorFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the suite as shard.count TestNG JVMs side by side on this machine, one {@link Shard} each,
+ * then merges their results with {@link ShardMerger}. Every JVM writes to its own shard.dir/shard-N,
+ * and gets this JVM's -D options and agents, so settings like -Dbase.url reach all shards.
+ * Run with: mvn -Pshards test-compile exec:exec -Dshard.count=4
+ */
+@Slf4j
+public final class ShardRunner {
+    private static final String DEFAULT_SUITE = "src/test/resources/testng.xml";
+    // TestNG exit status bits that don't mean a test failed
+    private static final int SKIPPED = 2;
+    private static final int NO_TESTS = 8;
+    // Set per shard below, so they're not passed on from this JVM
+    private static final List<String> PER_SHARD_OPTIONS = List.of(
+            "-Dshard.index=", "-Dshard.count=", "-Dallure.results.directory=", "-Dmetrics.dir=", "-Dlog.dir=",
+            "-agentlib:jdwp");
+
+    private ShardRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String suite = args.length > 0 ? args[0] : DEFAULT_SUITE;
+        int count = ConfigManager.getShardCount();
+        Path shardDirectory = Paths.get(ConfigManager.getShardDirectory());
+        deleteRecursively(shardDirectory);
+
+        log.info("Running {} in {} shards, results in {}", suite, count, shardDirectory);
+        long start = System.nanoTime();
+        List<Process> processes = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            processes.add(start(suite, index, count, shardDirectory.resolve("shard-" + index)));
+        }
+
+        List<Integer> failedShards = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            int status = processes.get(index).waitFor();
+            log.info("Shard {} finished with exit status {}", index, status);
+            if ((status & ~(SKIPPED | NO_TESTS)) != 0) {
+                failedShards.add(index);
+            }
+        }
+        log.info("All shards finished in {} s", (System.nanoTime() - start) / 1_000_000_000);
+
+        ShardMerger.merge(shardDirectory, ShardMerger.allureResultsDirectory(),
+                Paths.get(ConfigManager.getMetricsDirectory()));
+        if (!failedShards.isEmpty()) {
+            throw new IllegalStateException("Shards " + failedShards + " had failures, see "
+                    + shardDirectory.resolve("shard-N/console.log"));
+        }
+    }
+
+    private static Process start(String suite, int index, int count, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(inheritedJvmOptions());
+        command.add("-Dshard.index=" + index);
+        command.add("-Dshard.count=" + count);
+        command.add("-Dallure.results.directory=" + directory.resolve("allure-results"));
+        command.add("-Dmetrics.dir=" + directory.resolve("metrics"));
+        command.add("-Dlog.dir=" + directory.resolve("logs"));
+        if (ConfigManager.isVirtualThreadsEnabled()) {
+            command.add("-Dtestng.favor.custom.thread-pool.executor=true");
+        }
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.testng.TestNG");
+        if (ConfigManager.isVirtualThreadsEnabled()) {
+            command.add("-threadpoolfactoryclass");
+            command.add(VirtualThreadExecutorFactory.class.getName());
+        }
+        command.add("-d");
+        command.add(directory.resolve("testng-output").toString());
+        command.add(suite);
+
+        Path console = directory.resolve("console.log");
+        log.debug("Starting shard {}: {}", index, command);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(console.toFile())
+                .start();
+    }
+
+    private static List<String> inheritedJvmOptions() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(option -> PER_SHARD_OPTIONS.stream().noneMatch(option::startsWith))
+                .collect(Collectors.toList());
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> tree = Files.walk(directory)) {
+            for (Path path : tree.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
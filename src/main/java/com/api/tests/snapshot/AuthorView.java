@@ -0,0 +1,61 @@
+package com.api.tests.snapshot;
+
+import com.api.tests.models.Author;
+
+/**
+ * One row of the authors snapshot. Fields are read from the mapped file on access; nothing is copied up front.
+ */
+public final class AuthorView {
+    private final Snapshot snapshot;
+    private final Columns columns;
+    private final int row;
+
+    AuthorView(Snapshot snapshot, Columns columns, int row) {
+        this.snapshot = snapshot;
+        this.columns = columns;
+        this.row = row;
+    }
+
+    public int getId() {
+        return snapshot.getInt(columns.id, row);
+    }
+
+    public int getIdBook() {
+        return snapshot.getInt(columns.idBook, row);
+    }
+
+    public String getFirstName() {
+        return snapshot.getString(columns.firstName, row);
+    }
+
+    public String getLastName() {
+        return snapshot.getString(columns.lastName, row);
+    }
+
+    /**
+     * @return a regular, mutable Author, e.g. to send as a request body
+     */
+    public Author toAuthor() {
+        return Author.builder()
+                .id(getId())
+                .idBook(getIdBook())
+                .firstName(getFirstName())
+                .lastName(getLastName())
+                .build();
+    }
+
+    // Column indexes resolved once per snapshot, not per row
+    static final class Columns {
+        final int id;
+        final int idBook;
+        final int firstName;
+        final int lastName;
+
+        Columns(Snapshot snapshot) {
+            id = snapshot.column("id");
+            idBook = snapshot.column("idBook");
+            firstName = snapshot.column("firstName");
+            lastName = snapshot.column("lastName");
+        }
+    }
+}
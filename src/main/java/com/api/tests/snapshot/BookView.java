@@ -0,0 +1,75 @@
+package com.api.tests.snapshot;
+
+import com.api.tests.models.Book;
+
+/**
+ * One row of the books snapshot. Fields are read from the mapped file on access; nothing is copied up front.
+ */
+public final class BookView {
+    private final Snapshot snapshot;
+    private final Columns columns;
+    private final int row;
+
+    BookView(Snapshot snapshot, Columns columns, int row) {
+        this.snapshot = snapshot;
+        this.columns = columns;
+        this.row = row;
+    }
+
+    public int getId() {
+        return snapshot.getInt(columns.id, row);
+    }
+
+    public int getPageCount() {
+        return snapshot.getInt(columns.pageCount, row);
+    }
+
+    public String getTitle() {
+        return snapshot.getString(columns.title, row);
+    }
+
+    public String getDescription() {
+        return snapshot.getString(columns.description, row);
+    }
+
+    public String getExcerpt() {
+        return snapshot.getString(columns.excerpt, row);
+    }
+
+    public String getPublishDate() {
+        return snapshot.getString(columns.publishDate, row);
+    }
+
+    /**
+     * @return a regular, mutable Book, e.g. to send as a request body
+     */
+    public Book toBook() {
+        return Book.builder()
+                .id(getId())
+                .title(getTitle())
+                .description(getDescription())
+                .pageCount(getPageCount())
+                .excerpt(getExcerpt())
+                .publishDate(getPublishDate())
+                .build();
+    }
+
+    // Column indexes resolved once per snapshot, not per row
+    static final class Columns {
+        final int id;
+        final int pageCount;
+        final int title;
+        final int description;
+        final int excerpt;
+        final int publishDate;
+
+        Columns(Snapshot snapshot) {
+            id = snapshot.column("id");
+            pageCount = snapshot.column("pageCount");
+            title = snapshot.column("title");
+            description = snapshot.column("description");
+            excerpt = snapshot.column("excerpt");
+            publishDate = snapshot.column("publishDate");
+        }
+    }
+}
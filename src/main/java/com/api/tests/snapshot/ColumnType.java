@@ -0,0 +1,9 @@
+package com.api.tests.snapshot;
+
+/**
+ * How a snapshot column is stored: both are four bytes per row, strings as an index into the string table
+ */
+public enum ColumnType {
+    INT,
+    STRING
+}
@@ -0,0 +1,73 @@
+package com.api.tests.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The test data files that get compiled into binary snapshots, with their column layout
+ */
+@Getter
+public enum Dataset {
+    BOOKS("validBooks",
+            column("id", ColumnType.INT), column("pageCount", ColumnType.INT),
+            column("title", ColumnType.STRING), column("description", ColumnType.STRING),
+            column("excerpt", ColumnType.STRING), column("publishDate", ColumnType.STRING)),
+    AUTHORS("validAuthors",
+            column("id", ColumnType.INT), column("idBook", ColumnType.INT),
+            column("firstName", ColumnType.STRING), column("lastName", ColumnType.STRING)),
+    BULK("bulkTestData",
+            column("bookId", ColumnType.INT), column("bookTitle", ColumnType.STRING),
+            column("authorFirstName", ColumnType.STRING), column("authorLastName", ColumnType.STRING));
+
+    private final String baseName;
+    private final List<Column> columns;
+
+    Dataset(String baseName, Column... columns) {
+        this.baseName = baseName;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    public String getJsonFile() {
+        return baseName + ".json";
+    }
+
+    public String getSnapshotFile() {
+        return baseName + ".bin";
+    }
+
+    /**
+     * @return the values of one JSON element in column order; missing ints are 0, missing strings null
+     */
+    Object[] toRow(JsonNode element) {
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < row.length; i++) {
+            Column column = columns.get(i);
+            JsonNode value = element.get(column.getName());
+            if (column.getType() == ColumnType.INT) {
+                row[i] = value == null ? 0 : value.asInt();
+            } else {
+                row[i] = value == null || value.isNull() ? null : value.asText();
+            }
+        }
+        return row;
+    }
+
+    private static Column column(String name, ColumnType type) {
+        return new Column(name, type);
+    }
+
+    @Getter
+    public static final class Column {
+        private final String name;
+        private final ColumnType type;
+
+        private Column(String name, ColumnType type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
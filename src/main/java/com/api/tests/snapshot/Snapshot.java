@@ -0,0 +1,110 @@
+package com.api.tests.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only, memory-mapped view of a compiled test data snapshot (see {@link SnapshotWriter} for the layout).
+ * Mapping is O(1) regardless of file size: pages are faulted in by the OS as rows are read,
+ * and values are decoded straight from the mapping without an intermediate object graph.
+ */
+public final class Snapshot {
+    private final MappedByteBuffer buffer;
+    private final int rowCount;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private final ColumnType[] columnTypes;
+    private final int[] columnOffsets;
+    private final int stringOffsetsStart;
+    private final int stringBytesStart;
+
+    private Snapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a test data snapshot");
+        }
+        rowCount = buffer.getInt(4);
+        int columnCount = buffer.getInt(8);
+        columnTypes = new ColumnType[columnCount];
+        columnOffsets = new int[columnCount];
+
+        int position = 12;
+        for (int c = 0; c < columnCount; c++) {
+            columnTypes[c] = ColumnType.values()[buffer.get(position)];
+            byte[] name = new byte[buffer.getShort(position + 1)];
+            for (int i = 0; i < name.length; i++) {
+                name[i] = buffer.get(position + 3 + i);
+            }
+            columnIndex.put(new String(name, StandardCharsets.UTF_8), c);
+            position += 3 + name.length;
+        }
+        for (int c = 0; c < columnCount; c++) {
+            columnOffsets[c] = position;
+            position += rowCount * Integer.BYTES;
+        }
+        int stringCount = buffer.getInt(position);
+        stringOffsetsStart = position + Integer.BYTES;
+        stringBytesStart = stringOffsetsStart + (stringCount + 1) * Integer.BYTES;
+    }
+
+    public static Snapshot map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the index of a column, for use with {@link #getInt} and {@link #getString}
+     */
+    public int column(String name) {
+        Integer index = columnIndex.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("No column " + name + " in snapshot, has " + columnIndex.keySet());
+        }
+        return index;
+    }
+
+    public int getInt(int column, int row) {
+        checkType(column, ColumnType.INT);
+        return buffer.getInt(cell(column, row));
+    }
+
+    public String getString(int column, int row) {
+        checkType(column, ColumnType.STRING);
+        int index = buffer.getInt(cell(column, row));
+        if (index < 0) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsetsStart + index * Integer.BYTES);
+        int end = buffer.getInt(stringOffsetsStart + (index + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer source = buffer.duplicate();
+        source.position(stringBytesStart + start);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int cell(int column, int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        return columnOffsets[column] + row * Integer.BYTES;
+    }
+
+    private void checkType(int column, ColumnType type) {
+        if (columnTypes[column] != type) {
+            throw new IllegalArgumentException("Column " + column + " is " + columnTypes[column] + ", not " + type);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.tests.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a columnar snapshot row by row and writes it in the layout {@link Snapshot} maps:
+ * <pre>
+ * int magic, int rowCount, int columnCount
+ * per column: byte type, short nameLength, UTF-8 name
+ * per column: rowCount ints (the value, or the string table index; -1 for null)
+ * int stringCount, int[stringCount + 1] offsets, UTF-8 string bytes
+ * </pre>
+ * Repeated strings (author names, dates) are stored once.
+ */
+class SnapshotWriter {
+    static final int MAGIC = 0x54445331; // "TDS1"
+
+    private final List<Dataset.Column> columns;
+    private final int[][] values;
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+    private int rowCount;
+
+    SnapshotWriter(List<Dataset.Column> columns) {
+        this.columns = columns;
+        this.values = new int[columns.size()][16];
+    }
+
+    void addRow(Object[] row) {
+        if (rowCount == values[0].length) {
+            for (int c = 0; c < values.length; c++) {
+                values[c] = Arrays.copyOf(values[c], rowCount * 2);
+            }
+        }
+        for (int c = 0; c < columns.size(); c++) {
+            values[c][rowCount] = columns.get(c).getType() == ColumnType.INT
+                    ? (Integer) row[c]
+                    : intern((String) row[c]);
+        }
+        rowCount++;
+    }
+
+    void write(Path target) throws IOException {
+        // Written next to the target and moved into place, so readers never map a half-written file
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(rowCount);
+            out.writeInt(columns.size());
+            for (Dataset.Column column : columns) {
+                byte[] name = column.getName().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(column.getType().ordinal());
+                out.writeShort(name.length);
+                out.write(name);
+            }
+            for (int[] column : values) {
+                for (int row = 0; row < rowCount; row++) {
+                    out.writeInt(column[row]);
+                }
+            }
+
+            out.writeInt(strings.size());
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] string : strings) {
+                offset += string.length;
+                out.writeInt(offset);
+            }
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return stringIndex.computeIfAbsent(value, v -> {
+            strings.add(v.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.api.tests.snapshot;
+
+import com.api.tests.utils.MapperRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Compiles the JSON test data files into binary snapshots next to them. Runs at process-test-resources
+ * on target/test-classes/testdata, and on demand from {@link TestDataSnapshots} when a snapshot is
+ * missing or older than its JSON file.
+ */
+@Slf4j
+public final class TestDataCompiler {
+
+    private TestDataCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "target/test-classes/testdata");
+        for (Dataset dataset : Dataset.values()) {
+            compileIfStale(directory, dataset);
+        }
+    }
+
+    /**
+     * @return true if the snapshot was (re)written, false if it was up to date or there is no JSON file
+     */
+    public static synchronized boolean compileIfStale(Path directory, Dataset dataset) throws IOException {
+        Path json = directory.resolve(dataset.getJsonFile());
+        Path snapshot = directory.resolve(dataset.getSnapshotFile());
+        if (!Files.exists(json)) {
+            return false;
+        }
+        if (Files.exists(snapshot)
+                && Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(json)) >= 0) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        SnapshotWriter writer = new SnapshotWriter(dataset.getColumns());
+        int rows = 0;
+        // Element by element, so compiling a huge file needs memory for the columns only
+        try (MappingIterator<JsonNode> elements = MapperRegistry.reader(JsonNode.class).readValues(json.toFile())) {
+            while (elements.hasNext()) {
+                writer.addRow(dataset.toRow(elements.next()));
+                rows++;
+            }
+        }
+        writer.write(snapshot);
+        log.info("Compiled {} ({} rows) into {} in {} ms", json.getFileName(), rows, snapshot.getFileName(),
+                (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.api.tests.snapshot;
+
+import com.api.tests.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Memory-mapped snapshots of the /testdata/ files, compiled on first use if the build didn't do it
+ */
+@Slf4j
+public final class TestDataSnapshots {
+    private static final String TEST_DATA_PATH = "/testdata/";
+    private static final Map<Dataset, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private TestDataSnapshots() {
+    }
+
+    /**
+     * @return the mapped snapshot, or null when the data only exists inside a jar or can't be compiled
+     */
+    public static Snapshot open(Dataset dataset) {
+        Snapshot snapshot = snapshots.get(dataset);
+        if (snapshot != null && !ConfigManager.isTestDataReloadEnabled()) {
+            return snapshot;
+        }
+
+        Path directory = directoryOf(dataset);
+        if (directory == null) {
+            return null;
+        }
+        try {
+            boolean recompiled = TestDataCompiler.compileIfStale(directory, dataset);
+            if (snapshot == null || recompiled) {
+                snapshot = Snapshot.map(directory.resolve(dataset.getSnapshotFile()));
+                snapshots.put(dataset, snapshot);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.error("Could not open snapshot of {}", dataset.getJsonFile(), e);
+            return null;
+        }
+    }
+
+    public static List<BookView> books() {
+        Snapshot snapshot = open(Dataset.BOOKS);
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
+        BookView.Columns columns = new BookView.Columns(snapshot);
+        return new RowList<>(snapshot.getRowCount(), row -> new BookView(snapshot, columns, row));
+    }
+
+    public static List<AuthorView> authors() {
+        Snapshot snapshot = open(Dataset.AUTHORS);
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
+        AuthorView.Columns columns = new AuthorView.Columns(snapshot);
+        return new RowList<>(snapshot.getRowCount(), row -> new AuthorView(snapshot, columns, row));
+    }
+
+    private static Path directoryOf(Dataset dataset) {
+        URL json = TestDataSnapshots.class.getResource(TEST_DATA_PATH + dataset.getJsonFile());
+        if (json == null || !"file".equals(json.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(json.toURI()).getParent();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    // Immutable list whose elements are created on access
+    private static final class RowList<T> extends AbstractList<T> implements RandomAccess {
+        private final int size;
+        private final IntFunction<T> row;
+
+        private RowList(int size, IntFunction<T> row) {
+            this.size = size;
+            this.row = row;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Row " + index + " of " + size);
+            }
+            return row.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.api.tests.utils;
 
 import com.api.tests.models.Author;
 import com.api.tests.models.Book;
+import com.api.tests.snapshot.AuthorView;
+import com.api.tests.snapshot.BookView;
+import com.api.tests.snapshot.TestDataSnapshots;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,22 +13,29 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 public class JsonDataReader {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = MapperRegistry.mapper();
     private static final String TEST_DATA_PATH = "/testdata/";
 
+    // Every method parses its file once via TestDataRepository and then returns the cached, unmodifiable result.
+    // Valid books and authors are the exception: every call returns fresh objects, in an unmodifiable list, read from
+    // their memory-mapped snapshot or, when none can be mapped, copied from the cached parse. Callers may change them.
+
     public static List<Book> readValidBooks() {
+        List<BookView> books = mapValidBooks();
+        if (!books.isEmpty()) {
+            return materialize(books, BookView::toBook);
+        }
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "validBooks.json");
-            if (inputStream == null) {
-                log.error("Could not find validBooks.json file");
-                return new ArrayList<>();
-            }
-            
-            return objectMapper.readValue(inputStream, new TypeReference<List<Book>>() {});
+            return materialize(TestDataRepository.get("validBooks.json", new TypeReference<List<Book>>() {}),
+                    book -> book.toBuilder().build());
         } catch (IOException e) {
             log.error("Error reading valid books data", e);
             return new ArrayList<>();
@@ -34,22 +44,8 @@ public class JsonDataReader {
 
     public static List<InvalidTestData<Book>> readInvalidBooks() {
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "invalidBooks.json");
-            if (inputStream == null) {
-                log.error("Could not find invalidBooks.json file");
-                return new ArrayList<>();
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            List<InvalidTestData<Book>> invalidData = new ArrayList<>();
-            
-            for (JsonNode node : rootNode) {
-                Book book = objectMapper.treeToValue(node.get("testData"), Book.class);
-                String expectedError = node.get("expectedError").asText();
-                invalidData.add(new InvalidTestData<>(book, expectedError));
-            }
-            
-            return invalidData;
+            return TestDataRepository.get("invalidBooks.json", "InvalidTestData<Book>",
+                    inputStream -> readInvalidData(inputStream, Book.class));
         } catch (IOException e) {
             log.error("Error reading invalid books data", e);
             return new ArrayList<>();
@@ -57,14 +53,13 @@ public class JsonDataReader {
     }
 
     public static List<Author> readValidAuthors() {
+        List<AuthorView> authors = mapValidAuthors();
+        if (!authors.isEmpty()) {
+            return materialize(authors, AuthorView::toAuthor);
+        }
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "validAuthors.json");
-            if (inputStream == null) {
-                log.error("Could not find validAuthors.json file");
-                return new ArrayList<>();
-            }
-            
-            return objectMapper.readValue(inputStream, new TypeReference<List<Author>>() {});
+            return materialize(TestDataRepository.get("validAuthors.json", new TypeReference<List<Author>>() {}),
+                    author -> author.toBuilder().build());
         } catch (IOException e) {
             log.error("Error reading valid authors data", e);
             return new ArrayList<>();
@@ -73,22 +68,8 @@ public class JsonDataReader {
 
     public static List<InvalidTestData<Author>> readInvalidAuthors() {
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "invalidAuthors.json");
-            if (inputStream == null) {
-                log.error("Could not find invalidAuthors.json file");
-                return new ArrayList<>();
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            List<InvalidTestData<Author>> invalidData = new ArrayList<>();
-            
-            for (JsonNode node : rootNode) {
-                Author author = objectMapper.treeToValue(node.get("testData"), Author.class);
-                String expectedError = node.get("expectedError").asText();
-                invalidData.add(new InvalidTestData<>(author, expectedError));
-            }
-            
-            return invalidData;
+            return TestDataRepository.get("invalidAuthors.json", "InvalidTestData<Author>",
+                    inputStream -> readInvalidData(inputStream, Author.class));
         } catch (IOException e) {
             log.error("Error reading invalid authors data", e);
             return new ArrayList<>();
@@ -97,13 +78,13 @@ public class JsonDataReader {
 
     public static TestIds readTestIds() {
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "testIds.json");
-            if (inputStream == null) {
-                log.error("Could not find testIds.json file");
-                return new TestIds();
-            }
-            
-            return objectMapper.readValue(inputStream, TestIds.class);
+            return TestDataRepository.get("testIds.json", TestIds.class.getName(), inputStream -> {
+                TestIds testIds = objectMapper.readValue(inputStream, TestIds.class);
+                testIds.setValidBookIds(Collections.unmodifiableList(testIds.getValidBookIds()));
+                testIds.setValidAuthorIds(Collections.unmodifiableList(testIds.getValidAuthorIds()));
+                testIds.setInvalidIds(Collections.unmodifiableList(testIds.getInvalidIds()));
+                return testIds;
+            });
         } catch (IOException e) {
             log.error("Error reading test IDs data", e);
             return new TestIds();
@@ -112,13 +93,7 @@ public class JsonDataReader {
 
     public static List<BulkTestData> readBulkTestData() {
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "bulkTestData.json");
-            if (inputStream == null) {
-                log.error("Could not find bulkTestData.json file");
-                return new ArrayList<>();
-            }
-            
-            return objectMapper.readValue(inputStream, new TypeReference<List<BulkTestData>>() {});
+            return TestDataRepository.get("bulkTestData.json", new TypeReference<List<BulkTestData>>() {});
         } catch (IOException e) {
             log.error("Error reading bulk test data", e);
             return new ArrayList<>();
@@ -127,19 +102,96 @@ public class JsonDataReader {
 
     public static ValidationData readValidationData() {
         try {
-            InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + "validationData.json");
-            if (inputStream == null) {
-                log.error("Could not find validationData.json file");
-                return new ValidationData();
-            }
-            
-            return objectMapper.readValue(inputStream, ValidationData.class);
+            return TestDataRepository.get("validationData.json", ValidationData.class.getName(), inputStream -> {
+                ValidationData validationData = objectMapper.readValue(inputStream, ValidationData.class);
+                validationData.setPageCountValidation(Collections.unmodifiableList(validationData.getPageCountValidation()));
+                validationData.setBookSearchTerms(Collections.unmodifiableList(validationData.getBookSearchTerms()));
+                return validationData;
+            });
         } catch (IOException e) {
             log.error("Error reading validation data", e);
             return new ValidationData();
         }
     }
 
+    /**
+     * Iterate a JSON array file, or a JSON Lines file (.jsonl, one object per line), under /testdata/
+     * one element at a time. Nothing is cached and only the current element is in memory;
+     * the file is closed once the iterator is exhausted.
+     */
+    public static <T> Iterator<T> iterate(String fileName, Class<T> type) {
+        InputStream inputStream = JsonDataReader.class.getResourceAsStream(TEST_DATA_PATH + fileName);
+        if (inputStream == null) {
+            log.error("Could not find {} file", fileName);
+            return Collections.emptyIterator();
+        }
+        try {
+            // Unwraps a root-level array as well as a bare sequence of root values
+            return MapperRegistry.reader(type).readValues(inputStream);
+        } catch (IOException e) {
+            log.error("Error reading {}", fileName, e);
+            closeQuietly(inputStream);
+            return Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * Zero-copy view of validBooks.json through its memory-mapped binary snapshot
+     * @return the books in file order, or an empty list when no snapshot can be mapped
+     */
+    public static List<BookView> mapValidBooks() {
+        return TestDataSnapshots.books();
+    }
+
+    /**
+     * Zero-copy view of validAuthors.json through its memory-mapped binary snapshot
+     * @return the authors in file order, or an empty list when no snapshot can be mapped
+     */
+    public static List<AuthorView> mapValidAuthors() {
+        return TestDataSnapshots.authors();
+    }
+
+    /**
+     * Parse every JSON-only data set in parallel so the first data providers don't wait on I/O.
+     * Valid books and authors are left out: they are read from their snapshot, which needs no parsing.
+     */
+    public static void preload() {
+        TestDataRepository.preload(Arrays.asList(
+                JsonDataReader::readInvalidBooks,
+                JsonDataReader::readInvalidAuthors,
+                JsonDataReader::readTestIds,
+                JsonDataReader::readValidationData));
+    }
+
+    private static <V, T> List<T> materialize(List<V> views, Function<V, T> toModel) {
+        List<T> models = new ArrayList<>(views.size());
+        for (V view : views) {
+            models.add(toModel.apply(view));
+        }
+        return Collections.unmodifiableList(models);
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close test data stream", e);
+        }
+    }
+
+    private static <T> List<InvalidTestData<T>> readInvalidData(InputStream inputStream, Class<T> type) throws IOException {
+        JsonNode rootNode = objectMapper.readTree(inputStream);
+        List<InvalidTestData<T>> invalidData = new ArrayList<>();
+
+        for (JsonNode node : rootNode) {
+            T testData = objectMapper.treeToValue(node.get("testData"), type);
+            String expectedError = node.get("expectedError").asText();
+            invalidData.add(new InvalidTestData<>(testData, expectedError));
+        }
+
+        return invalidData;
+    }
+
     // Helper classes for JSON data structure
     public static class InvalidTestData<T> {
         private final T testData;
@@ -205,6 +257,12 @@ public class JsonDataReader {
 
         public String getAuthorLastName() { return authorLastName; }
         public void setAuthorLastName(String authorLastName) { this.authorLastName = authorLastName; }
+
+        @Override
+        public String toString() {
+            return String.format("BulkTestData(bookId=%d, bookTitle=%s, author=%s %s)",
+                    bookId, bookTitle, authorFirstName, authorLastName);
+        }
     }
 
     public static class ValidationData {
@@ -0,0 +1,72 @@
+package com.api.tests.utils;
+
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The one ObjectMapper the framework reads and writes JSON with, plus a cache of ObjectReaders/ObjectWriters per type.
+ * ObjectMapper is thread-safe once configured, and building one (plus its serializer caches) is far more expensive
+ * than using it, so nobody should create their own.
+ * <p>
+ * Blackbird replaces reflective getter/setter calls with generated lambdas, and the readers and writers for the
+ * models and their arrays are built at class load, so the first response of a run doesn't pay for
+ * deserializer construction.
+ */
+@Slf4j
+public final class MapperRegistry {
+    private static final List<Class<?>> prewarmedTypes = List.of(Book.class, Author.class, Book[].class, Author[].class);
+
+    private static final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            // Our models are plain Lombok beans: no getter-only collections, no empty beans, no @JsonView
+            .disable(MapperFeature.USE_GETTERS_AS_SETTERS)
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+            .build();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    static {
+        long start = System.nanoTime();
+        prewarmedTypes.forEach(type -> {
+            reader(type);
+            writer(type);
+        });
+        log.debug("Pre-warmed JSON readers and writers for {} in {} ms", prewarmedTypes, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private MapperRegistry() {
+    }
+
+    public static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * @return a reader bound to {@code type}, with its deserializer already resolved
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    /**
+     * @return a writer bound to {@code type}, with its serializer already resolved
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+}
@@ -0,0 +1,208 @@
+package com.api.tests.utils;
+
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded factory for Book and Author payloads. Every value is picked from word pools built once at class load,
+ * so producing an entity costs a few random ints and one StringBuilder per text field: no regex, no splitting.
+ * <p>
+ * An instance is not thread-safe; give each thread or virtual user its own via {@link #split()}.
+ * The same seed always yields the same sequence of entities.
+ */
+public final class SyntheticDataGenerator {
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Betty", "Mark", "Sandra", "Steven", "Ashley",
+            "Andrew", "Emily", "Joshua", "Margaret", "Kenneth", "Olivia", "Kevin", "Sophia", "Brian", "Amelia"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+    private static final String[] TITLE_ADJECTIVES = {
+            "Silent", "Hidden", "Broken", "Golden", "Forgotten", "Endless", "Crimson", "Distant", "Burning", "Quiet",
+            "Last", "Lost", "Wandering", "Frozen", "Secret", "Midnight", "Shattered", "Hollow", "Winter", "Restless"
+    };
+    private static final String[] TITLE_NOUNS = {
+            "River", "Garden", "Kingdom", "Shadow", "Harbor", "Mountain", "Letter", "Island", "Empire", "Mirror",
+            "Orchard", "Voyage", "Tower", "Promise", "Forest", "Horizon", "Lantern", "Archive", "Compass", "Storm"
+    };
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim"
+    };
+    // Ten years of publish dates, formatted once
+    private static final String[] PUBLISH_DATES = publishDates(LocalDate.of(2014, 1, 1), 3650);
+
+    private static final int DESCRIPTION_WORDS = 12;
+    private static final int EXCERPT_WORDS = 40;
+
+    private final SplittableRandom random;
+
+    public SyntheticDataGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SyntheticDataGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * @return an independent generator whose sequence is fixed by this one's seed and position
+     */
+    public SyntheticDataGenerator split() {
+        return new SyntheticDataGenerator(random.split());
+    }
+
+    public String firstName() {
+        return pick(FIRST_NAMES);
+    }
+
+    public String lastName() {
+        return pick(LAST_NAMES);
+    }
+
+    public String fullName() {
+        String first = firstName();
+        String last = lastName();
+        return new StringBuilder(first.length() + 1 + last.length()).append(first).append(' ').append(last).toString();
+    }
+
+    public String bookTitle() {
+        String adjective = pick(TITLE_ADJECTIVES);
+        String noun = pick(TITLE_NOUNS);
+        return new StringBuilder(5 + adjective.length() + noun.length())
+                .append("The ").append(adjective).append(' ').append(noun).toString();
+    }
+
+    /**
+     * @param words number of words, at least one
+     * @return a capitalised, full-stop terminated sentence
+     */
+    public String sentence(int words) {
+        StringBuilder text = new StringBuilder(words * 8);
+        String first = pick(WORDS);
+        text.append(Character.toUpperCase(first.charAt(0))).append(first, 1, first.length());
+        for (int i = 1; i < words; i++) {
+            text.append(' ').append(pick(WORDS));
+        }
+        return text.append('.').toString();
+    }
+
+    public int pageCount() {
+        return random.nextInt(50, 1000);
+    }
+
+    public int year() {
+        return random.nextInt(1950, 2024);
+    }
+
+    public String publishDate() {
+        return pick(PUBLISH_DATES);
+    }
+
+    /**
+     * @return a book the API should accept, with id 0 so the server assigns one
+     */
+    public Book book() {
+        return Book.builder()
+                .id(0)
+                .title(bookTitle())
+                .description(sentence(DESCRIPTION_WORDS))
+                .pageCount(pageCount())
+                .excerpt(sentence(EXCERPT_WORDS))
+                .publishDate(publishDate())
+                .build();
+    }
+
+    /**
+     * @param idBook the book the author belongs to
+     * @return an author the API should accept, with id 0 so the server assigns one
+     */
+    public Author author(int idBook) {
+        return Author.builder()
+                .id(0)
+                .idBook(idBook)
+                .firstName(firstName())
+                .lastName(lastName())
+                .build();
+    }
+
+    /**
+     * @return a valid book with exactly one rule broken, paired with the reason it should be rejected
+     */
+    public JsonDataReader.InvalidTestData<Book> invalidBook() {
+        Book book = book();
+        if (random.nextBoolean()) {
+            book.setTitle(random.nextBoolean() ? "" : "   ");
+            return new JsonDataReader.InvalidTestData<>(book, "Empty title should be rejected");
+        }
+        book.setPageCount(-1 - random.nextInt(1000));
+        return new JsonDataReader.InvalidTestData<>(book, "Negative page count should be rejected");
+    }
+
+    /**
+     * @return a valid author with exactly one rule broken, paired with the reason it should be rejected
+     */
+    public JsonDataReader.InvalidTestData<Author> invalidAuthor() {
+        Author author = author(1 + random.nextInt(200));
+        switch (random.nextInt(3)) {
+            case 0:
+                author.setFirstName("");
+                return new JsonDataReader.InvalidTestData<>(author, "Empty first name should be rejected");
+            case 1:
+                author.setLastName("");
+                return new JsonDataReader.InvalidTestData<>(author, "Empty last name should be rejected");
+            default:
+                author.setIdBook(-random.nextInt(1000));
+                return new JsonDataReader.InvalidTestData<>(author, "Non-existent book id should be rejected");
+        }
+    }
+
+    /**
+     * Lazily generate books, e.g. for an {@code Iterator<Object[]>} data provider or a load scenario
+     * @param count number of books
+     */
+    public Iterator<Book> books(long count) {
+        return new Iterator<>() {
+            private long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Book next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return book();
+            }
+        };
+    }
+
+    private String pick(String[] pool) {
+        return pool[random.nextInt(pool.length)];
+    }
+
+    private static String[] publishDates(LocalDate from, int days) {
+        String[] dates = new String[days];
+        for (int i = 0; i < days; i++) {
+            dates[i] = from.plusDays(i).atStartOfDay(ZoneOffset.UTC).format(DateTimeFormatter.ISO_INSTANT);
+        }
+        return dates;
+    }
+}
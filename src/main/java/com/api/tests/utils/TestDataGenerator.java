@@ -1,23 +1,75 @@
 package com.api.tests.utils;
 
+import com.api.tests.config.ConfigManager;
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 public class TestDataGenerator {
-    private static final Faker faker = new Faker();
+    // Spreads the 32-bit key hashes over the whole seed space
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long seed = resolveSeed();
+    private static final SyntheticDataGenerator root = new SyntheticDataGenerator(seed);
+    // Generators aren't thread-safe, so every thread has its own: keyed by its test, see reseed(),
+    // or split off the seeded root in arrival order on threads that don't run TestNG tests
+    private static final ThreadLocal<SyntheticDataGenerator> generator = ThreadLocal.withInitial(TestDataGenerator::split);
+
+    /**
+     * @return this thread's generator, for callers that need more than the shortcuts below
+     */
+    public static SyntheticDataGenerator current() {
+        return generator.get();
+    }
+
+    /**
+     * Give the calling thread the generator that belongs to key, e.g. a test method and its row.
+     * Its sequence only depends on the seed and the key, not on the thread or the order tests run in,
+     * so a seeded run replays the same data under parallel execution.
+     */
+    public static void reseed(String key) {
+        generator.set(new SyntheticDataGenerator(seed ^ key.hashCode() * GOLDEN_GAMMA));
+    }
 
     public static String generateRandomName() {
-        return faker.name().fullName();
+        return current().fullName();
+    }
+
+    public static String generateRandomFirstName() {
+        return current().firstName();
+    }
+
+    public static String generateRandomLastName() {
+        return current().lastName();
     }
 
     public static String generateRandomBookTitle() {
-        return faker.book().title();
+        return current().bookTitle();
     }
 
     public static int generateRandomYear() {
-        return faker.number().numberBetween(1950, 2024);
+        return current().year();
+    }
+
+    public static Book generateRandomBook() {
+        return current().book();
     }
 
+    public static Author generateRandomAuthor(int idBook) {
+        return current().author(idBook);
+    }
+
+    private static synchronized SyntheticDataGenerator split() {
+        return root.split();
+    }
 
-}
\ No newline at end of file
+    private static long resolveSeed() {
+        Long configured = ConfigManager.getTestDataSeed();
+        long seed = configured != null ? configured : ThreadLocalRandom.current().nextLong();
+        log.info("Synthetic test data seed: {} (pin it with -Dtestdata.seed={})", seed, seed);
+        return seed;
+    }
+}
@@ -0,0 +1,162 @@
+package com.api.tests.utils;
+
+import com.api.tests.config.ConfigManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Parse-once cache for the test data files under /testdata/. Every file is read and parsed a single time
+ * per view (target type), however many data providers ask for it and from however many threads.
+ * With testdata.reload=true a file that changed on disk is parsed again on the next request,
+ * which helps when editing data during local development.
+ */
+@Slf4j
+public class TestDataRepository {
+    private static final String TEST_DATA_PATH = "/testdata/";
+    private static final ObjectMapper objectMapper = MapperRegistry.mapper();
+    private static final Map<String, CompletableFuture<Entry>> cache = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(InputStream inputStream) throws IOException;
+    }
+
+    public static <T> T get(String fileName, Class<T> type) throws IOException {
+        return get(fileName, type.getName(), inputStream -> MapperRegistry.reader(type).readValue(inputStream));
+    }
+
+    public static <T> T get(String fileName, TypeReference<T> type) throws IOException {
+        return get(fileName, type.getType().getTypeName(), inputStream -> objectMapper.readValue(inputStream, type));
+    }
+
+    /**
+     * @param fileName file under /testdata/
+     * @param view name of what the parser produces, so one file can be cached as more than one type
+     * @param parser turns the file into the cached value; lists are handed out unmodifiable
+     * @return the cached value, parsed on first use
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String fileName, String view, Parser<T> parser) throws IOException {
+        String key = fileName + '#' + view;
+        while (true) {
+            CompletableFuture<Entry> future = cache.get(key);
+            if (future == null) {
+                CompletableFuture<Entry> created = new CompletableFuture<>();
+                future = cache.putIfAbsent(key, created);
+                if (future == null) {
+                    future = created;
+                    load(key, fileName, parser, created);
+                }
+            }
+
+            Entry entry = join(future);
+            if (ConfigManager.isTestDataReloadEnabled() && entry.isStale()) {
+                log.info("{} changed on disk, reloading", fileName);
+                cache.remove(key, future);
+                continue;
+            }
+            return (T) entry.value;
+        }
+    }
+
+    /**
+     * Run the given loaders in parallel and wait for all of them, e.g. to warm the cache at suite start
+     */
+    public static void preload(List<Supplier<?>> loaders) {
+        long start = System.nanoTime();
+        CompletableFuture.allOf(loaders.stream()
+                        .map(CompletableFuture::supplyAsync)
+                        .toArray(CompletableFuture[]::new))
+                .join();
+        log.info("Preloaded {} test data sets in {} ms", loaders.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public static void invalidate(String fileName) {
+        cache.keySet().removeIf(key -> key.startsWith(fileName + '#'));
+    }
+
+    public static void invalidateAll() {
+        cache.clear();
+    }
+
+    private static <T> void load(String key, String fileName, Parser<T> parser, CompletableFuture<Entry> future) {
+        URL resource = TestDataRepository.class.getResource(TEST_DATA_PATH + fileName);
+        try {
+            if (resource == null) {
+                throw new FileNotFoundException("Could not find " + fileName);
+            }
+            long lastModified = lastModified(resource);
+            Object value;
+            try (InputStream inputStream = resource.openStream()) {
+                value = parser.parse(inputStream);
+            }
+            if (value instanceof List) {
+                value = Collections.unmodifiableList((List<?>) value);
+            }
+            future.complete(new Entry(value, resource, lastModified));
+        } catch (IOException | RuntimeException e) {
+            // Don't cache failures, the next caller gets to try again
+            cache.remove(key, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    // Only files on disk (target/test-classes) can change; resources inside jars never do
+    private static long lastModified(URL resource) {
+        if (!"file".equals(resource.getProtocol())) {
+            return -1;
+        }
+        try {
+            return Files.getLastModifiedTime(Paths.get(resource.toURI())).toMillis();
+        } catch (IOException | URISyntaxException e) {
+            return -1;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final URL resource;
+        private final long lastModified;
+
+        private Entry(Object value, URL resource, long lastModified) {
+            this.value = value;
+            this.resource = resource;
+            this.lastModified = lastModified;
+        }
+
+        private boolean isStale() {
+            return lastModified >= 0 && lastModified(resource) != lastModified;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.api.tests.utils;
+
+import com.api.tests.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to Java 21 virtual threads from code that still compiles for Java 11.
+ * The Thread.ofVirtual() builder is looked up reflectively once; on older runtimes the mode stays off.
+ */
+@Slf4j
+public class VirtualThreads {
+    private static final Method ofVirtual = lookup(Thread.class, "ofVirtual");
+    private static final Method name = lookup(builderClass(), "name", String.class, long.class);
+    private static final Method factory = lookup(builderClass(), "factory");
+
+    public static boolean isSupported() {
+        return ofVirtual != null && name != null && factory != null;
+    }
+
+    /**
+     * @return true when virtual threads are requested through execution.virtual.threads and the runtime has them
+     */
+    public static boolean isEnabled() {
+        if (!ConfigManager.isVirtualThreadsEnabled()) {
+            return false;
+        }
+        if (!isSupported()) {
+            log.warn("execution.virtual.threads=true but Java {} has no virtual threads; using platform threads",
+                    System.getProperty("java.specification.version"));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Create a factory for virtual threads named prefix0, prefix1, ...
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        try {
+            Object builder = ofVirtual.invoke(null);
+            builder = name.invoke(builder, prefix, 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this runtime", e);
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for every task
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory threadFactory = newThreadFactory(prefix);
+        try {
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this runtime", e);
+        }
+    }
+
+    private static Class<?> builderClass() {
+        try {
+            return Class.forName("java.lang.Thread$Builder");
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method lookup(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return type.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.api.tests.validation;
+
+import com.api.tests.config.ConfigManager;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.utils.MapperRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaException;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contract checks for API responses against the JSON schemas under /schemas/, one per endpoint family.
+ * Each schema is loaded and compiled once; compiled schemas are immutable, so every thread shares them.
+ * Schemas describe a single entity: an array response is checked element by element, which is also
+ * how streamed collections are checked without holding the whole array.
+ */
+@Slf4j
+public final class SchemaValidator {
+    private static final String SCHEMA_PATH = "/schemas/";
+    private static final int MAX_REPORTED_MESSAGES = 5;
+
+    private static final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private static final boolean enabled = ConfigManager.isSchemaValidationEnabled();
+
+    private SchemaValidator() {
+    }
+
+    /**
+     * @return whether ApiClient and AsyncApiClient check every successful response they map
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check a whole response body: one entity, or an array of them
+     * @throws AssertionError listing the first violations
+     */
+    public static void validate(ApiEndpoint endpoint, JsonNode body) {
+        if (body.isArray()) {
+            for (int i = 0; i < body.size(); i++) {
+                validate(endpoint, body.get(i), i);
+            }
+        } else {
+            validate(endpoint, body, -1);
+        }
+    }
+
+    /**
+     * Check a single entity, e.g. one element of a streamed collection
+     * @throws AssertionError listing the first violations
+     */
+    public static void validateElement(ApiEndpoint endpoint, JsonNode element) {
+        validate(endpoint, element, -1);
+    }
+
+    // index is the element's position in an array response, -1 for a single entity
+    private static void validate(ApiEndpoint endpoint, JsonNode entity, int index) {
+        Set<ValidationMessage> violations = schema(endpoint).validate(entity);
+        if (!violations.isEmpty()) {
+            throw new AssertionError(describe(endpoint, index, violations));
+        }
+    }
+
+    private static JsonSchema schema(ApiEndpoint endpoint) {
+        return schemas.computeIfAbsent(endpoint.getSchema(), SchemaValidator::compile);
+    }
+
+    private static JsonSchema compile(String fileName) {
+        long start = System.nanoTime();
+        try (InputStream inputStream = SchemaValidator.class.getResourceAsStream(SCHEMA_PATH + fileName)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Schema " + SCHEMA_PATH + fileName + " not found on the classpath");
+            }
+            JsonSchema schema = factory.getSchema(MapperRegistry.mapper().readTree(inputStream));
+            // Resolve every keyword validator now rather than lazily on the first response
+            schema.initializeValidators();
+            log.debug("Compiled schema {} in {} ms", fileName, (System.nanoTime() - start) / 1_000_000);
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read schema " + fileName, e);
+        } catch (JsonSchemaException e) {
+            throw new IllegalStateException("Invalid schema " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String describe(ApiEndpoint endpoint, int index, Set<ValidationMessage> violations) {
+        StringBuilder text = new StringBuilder("Response of ").append(endpoint);
+        if (index >= 0) {
+            text.append('[').append(index).append(']');
+        }
+        text.append(" does not match ").append(endpoint.getSchema()).append(':');
+        int reported = 0;
+        for (ValidationMessage violation : violations) {
+            if (reported++ == MAX_REPORTED_MESSAGES) {
+                text.append(System.lineSeparator()).append("  ...");
+                break;
+            }
+            text.append(System.lineSeparator()).append("  ").append(violation.getMessage());
+        }
+        return text.toString();
+    }
+}
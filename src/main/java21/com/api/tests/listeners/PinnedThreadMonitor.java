@@ -0,0 +1,84 @@
+package com.api.tests.listeners;
+
+import com.api.tests.config.ConfigManager;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads that stayed pinned to their carrier (e.g. blocking inside a synchronized block).
+ * Only compiled by the virtual-threads profile, which also registers it with surefire.
+ */
+@Slf4j
+public class PinnedThreadMonitor implements ISuiteListener {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int TOP_SITES = 10;
+
+    private final Map<String, LongAdder> pinnedCountBySite = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pinnedNanosBySite = new ConcurrentHashMap<>();
+    private RecordingStream recording;
+
+    @Override
+    public void onStart(ISuite suite) {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(ConfigManager.getPinnedThreadThresholdMillis()))
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        log.info("Watching for virtual thread pinning longer than {} ms", ConfigManager.getPinnedThreadThresholdMillis());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (recording == null) {
+            return;
+        }
+        recording.close();
+
+        if (pinnedCountBySite.isEmpty()) {
+            log.info("No virtual thread pinning recorded for suite '{}'", suite.getName());
+            return;
+        }
+        log.warn("Virtual thread pinning in suite '{}' (top {} sites by total pinned time):", suite.getName(), TOP_SITES);
+        pinnedNanosBySite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(TOP_SITES)
+                .forEach(e -> log.warn("  {} pinned events, {} ms total at {}",
+                        pinnedCountBySite.get(e.getKey()).sum(), e.getValue().sum() / 1_000_000, e.getKey()));
+    }
+
+    private void record(RecordedEvent event) {
+        String site = pinningSite(event.getStackTrace());
+        pinnedCountBySite.computeIfAbsent(site, key -> new LongAdder()).increment();
+        pinnedNanosBySite.computeIfAbsent(site, key -> new LongAdder()).add(event.getDuration().toNanos());
+    }
+
+    // The first frame outside the JDK is usually the library or test code holding the monitor
+    private static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack trace>";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
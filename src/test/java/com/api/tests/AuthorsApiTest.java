@@ -1,16 +1,24 @@
 package com.api.tests;
 
 import com.api.tests.base.BaseTest;
+import com.api.tests.bulk.BulkOperations;
+import com.api.tests.bulk.BulkResult;
 import com.api.tests.client.ApiClient;
+import com.api.tests.client.AsyncApiClient;
 import com.api.tests.dataproviders.TestDataProviders;
 import com.api.tests.enums.ApiEndpoint;
 import com.api.tests.models.Author;
+import com.api.tests.utils.JsonDataReader;
 import com.api.tests.utils.TestDataGenerator;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import static org.testng.Assert.*;
 
 @Feature("Authors API - FakeRestAPI")
@@ -22,24 +30,22 @@ public class AuthorsApiTest extends BaseTest {
     public void testGetAllAuthors() {
         logTestInfo("testGetAllAuthors", "Retrieve all authors from the API");
 
-        Author[] authors = ApiClient.get(ApiEndpoint.AUTHORS, 200, Author[].class);
-        
-        assertNotNull(authors);
-        assertTrue(authors.length > 0);
-        
-        // Validate first author structure
-        Author firstAuthor = authors[0];
-        assertTrue(firstAuthor.getId() > 0);
-        assertTrue(firstAuthor.getIdBook() > 0);
-        assertNotNull(firstAuthor.getFirstName());
-        assertNotNull(firstAuthor.getLastName());
+        try (Stream<Author> authors = ApiClient.stream(ApiEndpoint.AUTHORS, 200, Author.class)) {
+            // Validate first author structure
+            Author firstAuthor = authors.findFirst().orElse(null);
+            assertNotNull(firstAuthor, "Expected at least one author");
+            assertTrue(firstAuthor.getId() > 0);
+            assertTrue(firstAuthor.getIdBook() > 0);
+            assertNotNull(firstAuthor.getFirstName());
+            assertNotNull(firstAuthor.getLastName());
+        }
     }
 
     @Test(dataProvider = "authorIds", dataProviderClass = TestDataProviders.class)
     @Story("Get Author by ID")
     @Description("Verify that GET /api/v1/Authors/{id} returns details of a specific author")
     public void testGetAuthorById(int authorId) {
-        logTestInfo("testGetAuthorById", "Retrieve author by ID: " + authorId);
+        logTestInfo("testGetAuthorById", "Retrieve author by ID: {}", authorId);
 
         Author author = ApiClient.get(ApiEndpoint.AUTHORS_BY_ID, authorId, 200, Author.class);
         
@@ -54,7 +60,7 @@ public class AuthorsApiTest extends BaseTest {
     @Story("Get Author by ID")
     @Description("Verify that GET /api/v1/Authors/{id} returns 404 for non-existent author")
     public void testGetNonExistentAuthor(Object invalidId, String description) {
-        logTestInfo("testGetNonExistentAuthor", "Verify 404 for: " + description);
+        logTestInfo("testGetNonExistentAuthor", "Verify 404 for: {}", description);
 
         ApiClient.get(ApiEndpoint.AUTHORS_BY_ID, invalidId, 404);
     }
@@ -63,8 +69,8 @@ public class AuthorsApiTest extends BaseTest {
     @Story("Create Author")
     @Description("Verify that POST /api/v1/Authors creates a new author successfully")
     public void testCreateAuthorWithValidData(Author newAuthor) {
-        logTestInfo("testCreateAuthorWithValidData", 
-            "Create author: " + newAuthor.getFirstName() + " " + newAuthor.getLastName());
+        logTestInfo("testCreateAuthorWithValidData", "Create author: {} {}",
+            newAuthor.getFirstName(), newAuthor.getLastName());
 
         Author createdAuthor = ApiClient.post(ApiEndpoint.AUTHORS, newAuthor, 200, Author.class);
         assertNotNull(createdAuthor);
@@ -77,8 +83,8 @@ public class AuthorsApiTest extends BaseTest {
     @Story("Create Author")
     @Description("Verify that POST /api/v1/Authors creates random authors successfully")
     public void testCreateRandomAuthor(Author randomAuthor) {
-        logTestInfo("testCreateRandomAuthor", 
-            "Create random author: " + randomAuthor.getFirstName() + " " + randomAuthor.getLastName());
+        logTestInfo("testCreateRandomAuthor", "Create random author: {} {}",
+            randomAuthor.getFirstName(), randomAuthor.getLastName());
 
         Author createdAuthor = ApiClient.post(ApiEndpoint.AUTHORS, randomAuthor, 200, Author.class);
         assertNotNull(createdAuthor);
@@ -115,13 +121,7 @@ public class AuthorsApiTest extends BaseTest {
         logTestInfo("testDeleteAuthor", "Delete an author via DELETE request");
 
         // Create an author first
-        String[] nameParts = TestDataGenerator.generateRandomName().split(" ");
-        Author authorToDelete = Author.builder()
-                .id(0)
-                .idBook(1)
-                .firstName(nameParts[0])
-                .lastName(nameParts.length > 1 ? nameParts[1] : "TestLastName")
-                .build();
+        Author authorToDelete = TestDataGenerator.generateRandomAuthor(1);
 
         Author createdAuthor = ApiClient.post(ApiEndpoint.AUTHORS, authorToDelete, 200, Author.class);
         int authorId = createdAuthor.getId();
@@ -134,7 +134,7 @@ public class AuthorsApiTest extends BaseTest {
     @Story("Create Author")
     @Description("Verify that POST /api/v1/Authors returns 400 for invalid author data")
     public void testCreateAuthorWithInvalidData(Author invalidAuthor, String expectedError) {
-        logTestInfo("testCreateAuthorWithInvalidData", "Test invalid data: " + expectedError);
+        logTestInfo("testCreateAuthorWithInvalidData", "Test invalid data: {}", expectedError);
 
         ApiClient.post(ApiEndpoint.AUTHORS, invalidAuthor, 400);
     }
@@ -143,7 +143,7 @@ public class AuthorsApiTest extends BaseTest {
     @Story("Delete Author")
     @Description("Verify that DELETE /api/v1/Authors/{id} returns 404 for non-existent author")
     public void testDeleteNonExistentAuthor(Object invalidId, String description) {
-        logTestInfo("testDeleteNonExistentAuthor", "Verify DELETE 404 for: " + description);
+        logTestInfo("testDeleteNonExistentAuthor", "Verify DELETE 404 for: {}", description);
 
         ApiClient.delete(ApiEndpoint.AUTHORS_BY_ID, invalidId, 404);
     }
@@ -188,16 +188,18 @@ public class AuthorsApiTest extends BaseTest {
     public void testAuthorDataValidation() {
         logTestInfo("testAuthorDataValidation", "Validate author data types and formats");
 
-        Author[] authors = ApiClient.get(ApiEndpoint.AUTHORS, 200, Author[].class);
-        assertNotNull(authors);
-        assertTrue(authors.length > 0);
-        
-        for (Author author : authors) {
-            assertTrue(author.getId() > 0, "Author ID should be positive");
-            assertTrue(author.getIdBook() > 0, "Book ID should be positive");
-            assertNotNull(author.getFirstName(), "Author first name should not be null");
-            assertNotNull(author.getLastName(), "Author last name should not be null");
+        // Streamed, so only one author is in memory at a time however many there are
+        int count = 0;
+        try (Stream<Author> authors = ApiClient.stream(ApiEndpoint.AUTHORS, 200, Author.class)) {
+            for (Iterator<Author> it = authors.iterator(); it.hasNext(); count++) {
+                Author author = it.next();
+                assertTrue(author.getId() > 0, "Author ID should be positive");
+                assertTrue(author.getIdBook() > 0, "Book ID should be positive");
+                assertNotNull(author.getFirstName(), "Author first name should not be null");
+                assertNotNull(author.getLastName(), "Author last name should not be null");
+            }
         }
+        assertTrue(count > 0);
     }
 
     @Test
@@ -206,24 +208,14 @@ public class AuthorsApiTest extends BaseTest {
     public void testAuthorBookAssociation() {
         logTestInfo("testAuthorBookAssociation", "Test author-book association");
 
-        String[] nameParts1 = TestDataGenerator.generateRandomName().split(" ");
-        Author author1 = Author.builder()
-                .id(0)
-                .idBook(1)
-                .firstName(nameParts1[0])
-                .lastName(nameParts1.length > 1 ? nameParts1[1] : "LastName1")
-                .build();
+        Author author1 = TestDataGenerator.generateRandomAuthor(1);
+        Author author2 = TestDataGenerator.generateRandomAuthor(2);
 
-        String[] nameParts2 = TestDataGenerator.generateRandomName().split(" ");
-        Author author2 = Author.builder()
-                .id(0)
-                .idBook(2)
-                .firstName(nameParts2[0])
-                .lastName(nameParts2.length > 1 ? nameParts2[1] : "LastName2")
-                .build();
-
-        Author createdAuthor1 = ApiClient.post(ApiEndpoint.AUTHORS, author1, 200, Author.class);
-        Author createdAuthor2 = ApiClient.post(ApiEndpoint.AUTHORS, author2, 200, Author.class);
+        // Independent creates, so send both before waiting on either
+        CompletableFuture<Author> pendingAuthor1 = AsyncApiClient.post(ApiEndpoint.AUTHORS, author1, 200, Author.class);
+        CompletableFuture<Author> pendingAuthor2 = AsyncApiClient.post(ApiEndpoint.AUTHORS, author2, 200, Author.class);
+        Author createdAuthor1 = pendingAuthor1.join();
+        Author createdAuthor2 = pendingAuthor2.join();
 
         assertNotNull(createdAuthor1);
         assertNotNull(createdAuthor2);
@@ -232,13 +224,12 @@ public class AuthorsApiTest extends BaseTest {
         assertEquals(createdAuthor2.getIdBook(), 2);
     }
 
-    @Test(dataProvider = "bulkTestData", dataProviderClass = TestDataProviders.class)
+    @Test(dataProvider = "bulkTestDataStream", dataProviderClass = TestDataProviders.class)
     @Story("Bulk Operations")
     @Description("Verify bulk operations with author and book data")
     public void testBulkAuthorOperations(int bookId, String bookTitle, String authorFirstName, String authorLastName) {
-        logTestInfo("testBulkAuthorOperations", 
-            String.format("Testing bulk author data: %s %s for Book ID %d (%s)", 
-                authorFirstName, authorLastName, bookId, bookTitle));
+        logTestInfo("testBulkAuthorOperations", "Testing bulk author data: {} {} for Book ID {} ({})",
+            authorFirstName, authorLastName, bookId, bookTitle);
 
         // Create an author with the bulk test data
         Author bulkAuthor = Author.builder()
@@ -255,21 +246,34 @@ public class AuthorsApiTest extends BaseTest {
         assertEquals(createdAuthor.getIdBook(), bookId);
     }
 
+    @Test
+    @Story("Bulk Operations")
+    @Description("Verify bulk author creation through the bounded-concurrency pipeline")
+    public void testBulkAuthorPipeline() {
+        logTestInfo("testBulkAuthorPipeline", "Create every bulk test data author concurrently");
+
+        BulkResult result = BulkOperations.createAuthors(
+            JsonDataReader.iterate("bulkTestData.json", JsonDataReader.BulkTestData.class));
+        result.assertAllSucceeded();
+        assertTrue(result.getTotal() > 0);
+    }
+
     @Test
     @Story("Author-Book Relationship")
     @Description("Verify authors are properly associated with valid book IDs")
     public void testAuthorBookIdValidation() {
         logTestInfo("testAuthorBookIdValidation", "Validate author-book ID relationships");
 
-        Author[] authors = ApiClient.get(ApiEndpoint.AUTHORS, 200, Author[].class);
-        assertNotNull(authors);
-        assertTrue(authors.length > 0);
-        
         // Verify all authors have valid book IDs
-        for (Author author : authors) {
-            assertTrue(author.getIdBook() > 0, 
-                String.format("Author %s %s should have a valid book ID", 
-                    author.getFirstName(), author.getLastName()));
+        int count = 0;
+        try (Stream<Author> authors = ApiClient.stream(ApiEndpoint.AUTHORS, 200, Author.class)) {
+            for (Iterator<Author> it = authors.iterator(); it.hasNext(); count++) {
+                Author author = it.next();
+                assertTrue(author.getIdBook() > 0,
+                    String.format("Author %s %s should have a valid book ID",
+                        author.getFirstName(), author.getLastName()));
+            }
         }
+        assertTrue(count > 0);
     }
-}
\ No newline at end of file
+}
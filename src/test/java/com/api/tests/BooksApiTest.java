@@ -1,16 +1,22 @@
 package com.api.tests;
 
 import com.api.tests.base.BaseTest;
+import com.api.tests.bulk.BulkOperations;
+import com.api.tests.bulk.BulkResult;
 import com.api.tests.client.ApiClient;
 import com.api.tests.dataproviders.TestDataProviders;
 import com.api.tests.enums.ApiEndpoint;
 import com.api.tests.models.Book;
+import com.api.tests.utils.JsonDataReader;
 import com.api.tests.utils.TestDataGenerator;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+import java.util.stream.Stream;
+
 import static org.testng.Assert.*;
 
 @Feature("Books API - FakeRestAPI")
@@ -22,23 +28,21 @@ public class BooksApiTest extends BaseTest {
     public void testGetAllBooks() {
         logTestInfo("testGetAllBooks", "Retrieve all books from the API");
 
-        Book[] books = ApiClient.get(ApiEndpoint.BOOKS, 200, Book[].class);
-        
-        assertNotNull(books);
-        assertTrue(books.length > 0);
-        
-        // Validate first book structure
-        Book firstBook = books[0];
-        assertTrue(firstBook.getId() > 0);
-        assertNotNull(firstBook.getTitle());
-        assertNotNull(firstBook.getDescription());
+        try (Stream<Book> books = ApiClient.stream(ApiEndpoint.BOOKS, 200, Book.class)) {
+            // Validate first book structure
+            Book firstBook = books.findFirst().orElse(null);
+            assertNotNull(firstBook, "Expected at least one book");
+            assertTrue(firstBook.getId() > 0);
+            assertNotNull(firstBook.getTitle());
+            assertNotNull(firstBook.getDescription());
+        }
     }
 
     @Test(dataProvider = "bookIds", dataProviderClass = TestDataProviders.class)
     @Story("Get Book by ID")
     @Description("Verify that GET /api/v1/Books/{id} returns details of a specific book")
     public void testGetBookById(int bookId) {
-        logTestInfo("testGetBookById", "Retrieve book by ID: " + bookId);
+        logTestInfo("testGetBookById", "Retrieve book by ID: {}", bookId);
 
         Book book = ApiClient.get(ApiEndpoint.BOOKS_BY_ID, bookId, 200, Book.class);
         
@@ -52,7 +56,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Get Book by ID")
     @Description("Verify that GET /api/v1/Books/{id} returns 404 for non-existent book")
     public void testGetNonExistentBook(Object invalidId, String description) {
-        logTestInfo("testGetNonExistentBook", "Verify 404 for: " + description);
+        logTestInfo("testGetNonExistentBook", "Verify 404 for: {}", description);
 
         ApiClient.get(ApiEndpoint.BOOKS_BY_ID, invalidId, 404);
     }
@@ -61,7 +65,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Create Book")
     @Description("Verify that POST /api/v1/Books creates a new book successfully")
     public void testCreateBookWithValidData(Book newBook) {
-        logTestInfo("testCreateBookWithValidData", "Create book: " + newBook.getTitle());
+        logTestInfo("testCreateBookWithValidData", "Create book: {}", newBook.getTitle());
 
         Book createdBook = ApiClient.post(ApiEndpoint.BOOKS, newBook, 200, Book.class);
         assertNotNull(createdBook);
@@ -73,7 +77,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Create Book")
     @Description("Verify that POST /api/v1/Books creates random books successfully")
     public void testCreateRandomBook(Book randomBook) {
-        logTestInfo("testCreateRandomBook", "Create random book: " + randomBook.getTitle());
+        logTestInfo("testCreateRandomBook", "Create random book: {}", randomBook.getTitle());
 
         Book createdBook = ApiClient.post(ApiEndpoint.BOOKS, randomBook, 200, Book.class);
         assertNotNull(createdBook);
@@ -130,7 +134,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Create Book")
     @Description("Verify that POST /api/v1/Books returns 400 for invalid book data")
     public void testCreateBookWithInvalidData(Book invalidBook, String expectedError) {
-        logTestInfo("testCreateBookWithInvalidData", "Test invalid data: " + expectedError);
+        logTestInfo("testCreateBookWithInvalidData", "Test invalid data: {}", expectedError);
 
         ApiClient.post(ApiEndpoint.BOOKS, invalidBook, 400);
     }
@@ -139,7 +143,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Delete Book")
     @Description("Verify that DELETE /api/v1/Books/{id} returns 404 for non-existent book")
     public void testDeleteNonExistentBook(Object invalidId, String description) {
-        logTestInfo("testDeleteNonExistentBook", "Verify DELETE 404 for: " + description);
+        logTestInfo("testDeleteNonExistentBook", "Verify DELETE 404 for: {}", description);
 
         ApiClient.delete(ApiEndpoint.BOOKS_BY_ID, invalidId, 404);
     }
@@ -150,23 +154,25 @@ public class BooksApiTest extends BaseTest {
     public void testBookDataValidation() {
         logTestInfo("testBookDataValidation", "Validate book data types and formats");
 
-        Book[] books = ApiClient.get(ApiEndpoint.BOOKS, 200, Book[].class);
-        assertNotNull(books);
-        assertTrue(books.length > 0);
-        
-        for (Book book : books) {
-            assertTrue(book.getId() > 0, "Book ID should be positive");
-            assertNotNull(book.getTitle(), "Book title should not be null");
-            assertNotNull(book.getDescription(), "Book description should not be null");
-            assertTrue(book.getPageCount() >= 0, "Page count should not be negative");
+        // Streamed, so only one book is in memory at a time however large the catalogue is
+        int count = 0;
+        try (Stream<Book> books = ApiClient.stream(ApiEndpoint.BOOKS, 200, Book.class)) {
+            for (Iterator<Book> it = books.iterator(); it.hasNext(); count++) {
+                Book book = it.next();
+                assertTrue(book.getId() > 0, "Book ID should be positive");
+                assertNotNull(book.getTitle(), "Book title should not be null");
+                assertNotNull(book.getDescription(), "Book description should not be null");
+                assertTrue(book.getPageCount() >= 0, "Page count should not be negative");
+            }
         }
+        assertTrue(count > 0);
     }
 
     @Test(dataProvider = "pageCountValidation", dataProviderClass = TestDataProviders.class)
     @Story("Update Book")
     @Description("Verify page count validation in PUT /api/v1/Books/{id}")
     public void testUpdateBookPageCountValidation(int pageCount, boolean shouldBeValid, String description) {
-        logTestInfo("testUpdateBookPageCountValidation", "Test page count: " + description);
+        logTestInfo("testUpdateBookPageCountValidation", "Test page count: {}", description);
 
         int bookId = 1;
         Book bookWithPageCount = Book.builder()
@@ -186,7 +192,7 @@ public class BooksApiTest extends BaseTest {
     @Story("Search Books")
     @Description("Verify book search functionality with various search terms")
     public void testBookSearch(String searchTerm, String description) {
-        logTestInfo("testBookSearch", "Search books with: " + description);
+        logTestInfo("testBookSearch", "Search books with: {}", description);
 
         // Note: This assumes the API supports search functionality
         // If not implemented, this test would need to be adapted or removed
@@ -197,13 +203,12 @@ public class BooksApiTest extends BaseTest {
         assertTrue(books.length >= 0);
     }
 
-    @Test(dataProvider = "bulkTestData", dataProviderClass = TestDataProviders.class)
+    @Test(dataProvider = "bulkTestDataStream", dataProviderClass = TestDataProviders.class)
     @Story("Bulk Operations")
     @Description("Verify bulk operations with book and author data")
     public void testBulkBookOperations(int bookId, String bookTitle, String authorFirstName, String authorLastName) {
-        logTestInfo("testBulkBookOperations", 
-            String.format("Testing bulk data: Book ID %d, Title: %s, Author: %s %s", 
-                bookId, bookTitle, authorFirstName, authorLastName));
+        logTestInfo("testBulkBookOperations", "Testing bulk data: Book ID {}, Title: {}, Author: {} {}",
+            bookId, bookTitle, authorFirstName, authorLastName);
 
         // Test getting book by the bulk test data ID
         if (bookId > 0) {
@@ -212,4 +217,21 @@ public class BooksApiTest extends BaseTest {
             assertEquals(book.getId(), bookId);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Story("Bulk Operations")
+    @Description("Verify bulk book creation and lookup through the bounded-concurrency pipeline")
+    public void testBulkBookPipeline() {
+        logTestInfo("testBulkBookPipeline", "Create and verify every bulk test data book concurrently");
+
+        BulkResult created = BulkOperations.createBooks(
+            JsonDataReader.iterate("bulkTestData.json", JsonDataReader.BulkTestData.class));
+        created.assertAllSucceeded();
+        assertTrue(created.getTotal() > 0);
+
+        BulkResult verified = BulkOperations.verifyBooks(
+            JsonDataReader.iterate("bulkTestData.json", JsonDataReader.BulkTestData.class));
+        verified.assertAllSucceeded();
+        assertEquals(verified.getTotal(), created.getTotal());
+    }
+}
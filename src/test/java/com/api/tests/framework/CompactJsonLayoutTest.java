@@ -0,0 +1,41 @@
+package com.api.tests.framework;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.logging.CompactJsonLayout;
+import com.api.tests.utils.MapperRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class CompactJsonLayoutTest {
+
+    @Test
+    @Story("Logging")
+    @Description("Verify that the JSON log layout writes one valid, escaped JSON object per event")
+    public void testCompactJsonLogLayout() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        LoggingEvent event = new LoggingEvent(getClass().getName(), context.getLogger(getClass()),
+            Level.WARN, "Author {} said \"hi\"\nand left", new IllegalStateException("boom"), new Object[]{42});
+        event.addKeyValuePair(new KeyValuePair("endpoint", ApiEndpoint.AUTHORS));
+
+        String line = new CompactJsonLayout().doLayout(event);
+        assertTrue(line.endsWith(System.lineSeparator()));
+        assertEquals(line.trim().indexOf('\n'), -1, "One event per line");
+
+        JsonNode json = MapperRegistry.mapper().readTree(line);
+        assertEquals(json.get("level").asText(), "WARN");
+        assertEquals(json.get("msg").asText(), "Author 42 said \"hi\"\nand left");
+        assertEquals(json.get("endpoint").asText(), "AUTHORS");
+        assertTrue(json.get("ex").asText().contains("IllegalStateException: boom"));
+    }
+}
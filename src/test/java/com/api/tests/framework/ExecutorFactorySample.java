@@ -0,0 +1,41 @@
+package com.api.tests.framework;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests run by {@link ExecutorFactoryTest} in a nested TestNG run; not part of testng.xml
+ */
+public class ExecutorFactorySample {
+    static final List<String> order = new CopyOnWriteArrayList<>();
+    static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void create() {
+        record("create");
+    }
+
+    @Test(dependsOnMethods = "create")
+    public void read() {
+        record("read");
+    }
+
+    @Test(dependsOnMethods = "read")
+    public void delete() {
+        record("delete");
+    }
+
+    @Test
+    public void list() {
+        record("list");
+    }
+
+    private static void record(String step) {
+        order.add(step);
+        threads.add(Thread.currentThread().getName());
+    }
+}
@@ -0,0 +1,75 @@
+package com.api.tests.framework;
+
+import com.api.tests.execution.VirtualThreadExecutorFactory;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.IDynamicGraph;
+import org.testng.ITestNGMethod;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+import org.testng.xml.XmlSuite;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class ExecutorFactoryTest {
+    private static final String FAVOR_CUSTOM_EXECUTOR = "testng.favor.custom.thread-pool.executor";
+
+    @Test
+    @Story("Virtual Threads")
+    @Description("Verify that TestNG runs a suite's methods through the executor factory, in dependency order")
+    public void testExecutorFactoryRunsTheDependencyGraph() {
+        CountingFactory factory = new CountingFactory();
+        TestNG testng = new TestNG(false);
+        testng.setTestClasses(new Class[]{ExecutorFactorySample.class});
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        testng.setThreadCount(2);
+        testng.setExecutorFactory(factory);
+        // Keep this nested run out of the surrounding suite's Allure results
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders("io.qameta.allure.testng.AllureTestNg");
+        testng.setVerbose(0);
+        testng.setOutputDirectory("target/testng-output/executor-factory");
+
+        String favor = System.getProperty(FAVOR_CUSTOM_EXECUTOR);
+        System.setProperty(FAVOR_CUSTOM_EXECUTOR, "true");
+        try {
+            ExecutorFactorySample.order.clear();
+            ExecutorFactorySample.threads.clear();
+            testng.run();
+        } finally {
+            if (favor == null) {
+                System.clearProperty(FAVOR_CUSTOM_EXECUTOR);
+            } else {
+                System.setProperty(FAVOR_CUSTOM_EXECUTOR, favor);
+            }
+        }
+
+        assertEquals(testng.getStatus(), 0, "Sample tests failed");
+        assertEquals(factory.executors.get(), 1, "One executor for the sample <test>");
+        assertEquals(ExecutorFactorySample.order.size(), 4, ExecutorFactorySample.order.toString());
+        assertTrue(ExecutorFactorySample.order.indexOf("create") < ExecutorFactorySample.order.indexOf("read"), ExecutorFactorySample.order.toString());
+        assertTrue(ExecutorFactorySample.order.indexOf("read") < ExecutorFactorySample.order.indexOf("delete"), ExecutorFactorySample.order.toString());
+        assertFalse(ExecutorFactorySample.threads.contains(Thread.currentThread().getName()), "Sample tests ran on the executor's threads");
+    }
+
+    public static class CountingFactory extends VirtualThreadExecutorFactory {
+        final AtomicInteger executors = new AtomicInteger();
+
+        @Override
+        public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                TimeUnit unit, BlockingQueue<Runnable> queue, Comparator<ITestNGMethod> comparator) {
+            executors.incrementAndGet();
+            return super.newTestMethodExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                    unit, queue, comparator);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.api.tests.framework;
+
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.resilience.CircuitBreaker;
+import com.api.tests.resilience.CircuitOpenException;
+import com.api.tests.resilience.RetryPolicy;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class ResilienceTest {
+
+    @Test
+    @Story("Resilience")
+    @Description("Verify that only idempotent requests are retried, on transient failures, with bounded backoff")
+    public void testRetryRules() {
+        RetryPolicy policy = RetryPolicy.builder()
+            .enabled(true)
+            .maxAttempts(3)
+            .baseDelayMillis(100)
+            .maxDelayMillis(1000)
+            .retryableStatuses(Set.of(503))
+            .build();
+        assertTrue(policy.shouldRetry("GET", 1, 503));
+        assertTrue(policy.shouldRetry("PUT", 2, new SocketTimeoutException("read timed out")));
+        assertFalse(policy.shouldRetry("POST", 1, 503), "A POST must never be sent twice");
+        assertFalse(policy.shouldRetry("GET", 3, 503), "Attempts are exhausted");
+        assertFalse(policy.shouldRetry("GET", 1, 404));
+        assertFalse(policy.shouldRetry("GET", 1, new IllegalStateException("not transient")));
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long delay = policy.backoffMillis(attempt);
+            assertTrue(delay >= 0 && delay <= 1000, "Backoff out of bounds: " + delay);
+        }
+    }
+
+    @Test
+    @Story("Resilience")
+    @Description("Verify that a failing endpoint trips its circuit and that one successful trial call closes it")
+    public void testCircuitBreakerStates() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.BOOKS, 2, 50);
+        breaker.onFailure();
+        breaker.acquirePermission();
+        breaker.onFailure();
+        assertTrue(breaker.isOpen());
+        expectThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        // After the open period exactly one trial call goes through, and its success closes the circuit
+        Thread.sleep(60);
+        breaker.acquirePermission();
+        expectThrows(CircuitOpenException.class, breaker::acquirePermission);
+        breaker.onSuccess();
+        assertFalse(breaker.isOpen());
+        breaker.acquirePermission();
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.tests.framework;
+
+import com.api.tests.client.ResponseCache;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class ResponseCacheTest {
+
+    @Test
+    @Story("Response Cache")
+    @Description("Verify that cached GETs are coalesced, revalidated by ETag and invalidated by writes")
+    public void testResponseCacheCoalescesAndRevalidates() throws Exception {
+        // Responses are (status, ETag) pairs; the fake server answers 304 when the ETag still matches
+        AtomicInteger requests = new AtomicInteger();
+        ResponseCache<Map.Entry<Integer, String>> cache = new ResponseCache<>(0, 10, Map.Entry::getKey, Map.Entry::getValue);
+        String current = "\"v1\"";
+        Function<String, Map.Entry<Integer, String>> server = ifNoneMatch -> {
+            requests.incrementAndGet();
+            // The first request is held until the second caller has joined it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!cache.stats().contains("coalesced=1") && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            return current.equals(ifNoneMatch) ? Map.entry(304, current) : Map.entry(200, current);
+        };
+
+        CompletableFuture<Map.Entry<Integer, String>> first =
+            CompletableFuture.supplyAsync(() -> cache.get("/Books", "/Books/1", server));
+        CompletableFuture<Map.Entry<Integer, String>> second =
+            CompletableFuture.supplyAsync(() -> cache.get("/Books", "/Books/1", server));
+        assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS), "Concurrent reads share one response");
+        assertEquals(requests.get(), 1, "Concurrent reads are coalesced into one request");
+
+        // TTL 0: every read revalidates, and a 304 hands back the cached response
+        Map.Entry<Integer, String> cached = first.get();
+        assertSame(cache.get("/Books", "/Books/1", server), cached);
+        assertEquals(requests.get(), 2);
+        assertTrue(cache.stats().contains("revalidated=1"), cache.stats());
+
+        // A write to the family drops the entry, so the next read is a full fetch
+        cache.invalidate("/Books", "/Books/1");
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.get("/Books", "/Books/1", server).getKey().intValue(), 200);
+        assertEquals(requests.get(), 3);
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.tests.framework;
+
+import com.api.tests.scheduling.TestHistory;
+import com.api.tests.scheduling.TestScheduler;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class SchedulerTest {
+
+    @Test
+    @Story("Scheduling")
+    @Description("Verify that the scheduler runs failing and flaky tests first, then new ones, then the longest first")
+    public void testSchedulerOrdersByHistory() throws Exception {
+        TestHistory history = new TestHistory();
+        history.startRun();
+        history.record("short", 10, false, 0.3);
+        history.record("long", 900, false, 0.3);
+        history.record("medium", 200, false, 0.3);
+        history.record("flaky", 5, true, 0.3);
+        history.startRun();
+        history.record("short", 20, false, 0.3);
+        history.record("long", 1000, false, 0.3);
+        history.record("medium", 200, false, 0.3);
+        history.record("flaky", 5, false, 0.3);
+
+        // "flaky" passed last time, but its averaged failure rate (0.7) keeps it in front
+        assertEquals(history.get("long").getMeanMillis(), 930.0, 0.001);
+        assertEquals(history.get("flaky").getFailureRate(), 0.7, 0.001);
+        assertEquals(TestScheduler.schedule(List.of("short", "medium", "brand-new", "long", "flaky"), key -> key, history),
+                List.of("flaky", "brand-new", "long", "medium", "short"));
+
+        // The history survives a round trip through its file
+        Path file = Files.createTempFile("test-history", ".json");
+        try {
+            history.save(file);
+            TestHistory reloaded = TestHistory.load(file);
+            assertEquals(reloaded.getRuns(), 2);
+            assertEquals(reloaded.get("medium").getRuns(), 2);
+            assertEquals(reloaded.get("long").getMeanMillis(), 930.0, 0.001);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @Story("Scheduling")
+    @Description("Verify that a test result is matched to the data provider row it ran with")
+    public void testOriginalRowOfResult() {
+        String methodKey = getClass().getName() + "#rows";
+        Object[] first = {new StringBuilder("same")};
+        Object[] second = {new StringBuilder("same")};
+        TestScheduler.rowScheduled(methodKey, second, 7);
+        TestScheduler.rowScheduled(methodKey, first, 3);
+
+        // TestNG passes a copy of the row, with injected parameters after it
+        assertEquals(TestScheduler.originalRow(methodKey, new Object[]{first[0], "injected context"}), 3);
+        assertEquals(TestScheduler.originalRow(methodKey, second.clone()), 7);
+        assertEquals(TestScheduler.originalRow(methodKey, second.clone()), -1, "A row is claimed once");
+        assertEquals(TestScheduler.originalRow("unknown#method", first), -1);
+    }
+}
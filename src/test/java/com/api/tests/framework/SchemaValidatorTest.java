@@ -0,0 +1,41 @@
+package com.api.tests.framework;
+
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.models.Book;
+import com.api.tests.utils.MapperRegistry;
+import com.api.tests.validation.SchemaValidator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class SchemaValidatorTest {
+
+    @Test
+    @Story("Contract")
+    @Description("Verify that book bodies are checked against the Book schema")
+    public void testBookSchemaValidation() {
+        Book book = Book.builder()
+                .id(1)
+                .title("Book 1")
+                .description("A book")
+                .pageCount(100)
+                .excerpt("An excerpt")
+                .publishDate("2024-01-01T00:00:00.000Z")
+                .build();
+        ObjectNode json = MapperRegistry.mapper().valueToTree(book);
+        SchemaValidator.validate(ApiEndpoint.BOOKS_BY_ID, json);
+
+        // Breaking the contract must be caught
+        json.put("pageCount", "many");
+        json.remove("title");
+        AssertionError violation = expectThrows(AssertionError.class,
+            () -> SchemaValidator.validate(ApiEndpoint.BOOKS_BY_ID, json));
+        assertTrue(violation.getMessage().contains("pageCount"), violation.getMessage());
+        assertTrue(violation.getMessage().contains("title"), violation.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.api.tests.framework;
+
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.metrics.EndpointLatency;
+import com.api.tests.metrics.LatencyRecorder;
+import com.api.tests.metrics.LatencyReport;
+import com.api.tests.sharding.Shard;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class ShardingTest {
+
+    @Test
+    @Story("Sharding")
+    @Description("Verify that shards split tests and rows disjointly and that their latency reports merge")
+    public void testShardingSplitsRowsAndMergesLatency() {
+        // Every row belongs to exactly one shard, the same one every time, and no shard gets far more than its share
+        int[] perShard = new int[4];
+        for (int row = 0; row < 3000; row++) {
+            String key = Shard.rowKey("com.api.tests.BooksApiTest", "testGetBookById", row);
+            int owners = 0;
+            for (int index = 0; index < perShard.length; index++) {
+                if (new Shard(index, perShard.length).owns(key)) {
+                    owners++;
+                    perShard[index]++;
+                }
+            }
+            assertEquals(owners, 1, key);
+        }
+        for (int count : perShard) {
+            assertTrue(count > 650 && count < 850, "Unbalanced shards: " + Arrays.toString(perShard));
+        }
+        assertTrue(new Shard(0, 1).owns("anything"), "A single shard runs everything");
+        expectThrows(IllegalArgumentException.class, () -> new Shard(4, 4));
+
+        // Merging two shards' histograms gives the same percentiles as recording everything in one place
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        LatencyRecorder both = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(i);
+            (i % 2 == 0 ? first : second).onExchange(ApiEndpoint.BOOKS, "GET", 200, nanos);
+            both.onExchange(ApiEndpoint.BOOKS, "GET", 200, nanos);
+        }
+        EndpointLatency merged = LatencyReport.merge(List.of(first.snapshot(), second.snapshot())).getEndpoints().get(0);
+        EndpointLatency expected = both.snapshot().getEndpoints().get(0);
+        assertEquals(merged.getCount(), 100);
+        assertEquals(merged.getP50(), expected.getP50(), 0.01);
+        assertEquals(merged.getP99(), expected.getP99(), 0.01);
+        assertEquals(merged.getMax(), expected.getMax(), 0.01);
+    }
+}
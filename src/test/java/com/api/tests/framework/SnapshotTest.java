@@ -0,0 +1,122 @@
+package com.api.tests.framework;
+
+import com.api.tests.models.Book;
+import com.api.tests.snapshot.Dataset;
+import com.api.tests.snapshot.Snapshot;
+import com.api.tests.snapshot.TestDataCompiler;
+import com.api.tests.utils.MapperRegistry;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class SnapshotTest {
+    private static final String BOOKS =
+            "[{\"id\": 1, \"pageCount\": 100, \"title\": \"Alpha\", \"description\": \"Shared text\","
+            + " \"excerpt\": \"E1\", \"publishDate\": \"2024-01-01\"},"
+            + " {\"id\": 2, \"pageCount\": 200, \"title\": \"Beta\", \"description\": null,"
+            + " \"publishDate\": \"2024-01-01\"},"
+            + " {\"id\": 3, \"pageCount\": 300, \"title\": \"Gamma ü\", \"description\": \"Shared text\","
+            + " \"excerpt\": \"E3\", \"publishDate\": \"2024-01-02\"}]";
+
+    @Test
+    @Story("Test Data Snapshots")
+    @Description("Verify that a compiled snapshot has the documented layout and maps back to the JSON it came from")
+    public void testSnapshotMatchesJson() throws IOException {
+        Path directory = Files.createTempDirectory("snapshot-test");
+        try {
+            Path json = directory.resolve(Dataset.BOOKS.getJsonFile());
+            Path bin = directory.resolve(Dataset.BOOKS.getSnapshotFile());
+            Files.write(json, BOOKS.getBytes(StandardCharsets.UTF_8));
+            assertTrue(TestDataCompiler.compileIfStale(directory, Dataset.BOOKS), "Missing snapshot is compiled");
+            assertFalse(TestDataCompiler.compileIfStale(directory, Dataset.BOOKS), "Up to date snapshot is kept");
+
+            // Header, one int block per column, then the string table
+            try (InputStream file = Files.newInputStream(bin); DataInputStream in = new DataInputStream(file)) {
+                assertEquals(in.readInt(), 0x54445331, "Magic \"TDS1\"");
+                int rows = in.readInt();
+                int columns = in.readInt();
+                assertEquals(rows, 3);
+                assertEquals(columns, Dataset.BOOKS.getColumns().size());
+                for (Dataset.Column column : Dataset.BOOKS.getColumns()) {
+                    assertEquals(in.readByte(), column.getType().ordinal());
+                    byte[] name = new byte[in.readShort()];
+                    in.readFully(name);
+                    assertEquals(new String(name, StandardCharsets.UTF_8), column.getName());
+                }
+                int[][] cells = new int[columns][rows];
+                for (int c = 0; c < columns; c++) {
+                    for (int row = 0; row < rows; row++) {
+                        cells[c][row] = in.readInt();
+                    }
+                }
+                assertEquals(cells[0][2], 3, "Ints are stored as-is");
+                assertEquals(cells[3][1], -1, "Null description");
+                assertEquals(cells[4][1], -1, "Missing excerpt");
+                assertEquals(cells[3][0], cells[3][2], "Repeated strings share one table entry");
+                assertEquals(cells[5][0], cells[5][1], "Repeated strings share one table entry");
+
+                // Alpha, Shared text, E1, 2024-01-01, Beta, Gamma ü, E3, 2024-01-02
+                int strings = in.readInt();
+                assertEquals(strings, 8);
+                int[] offsets = new int[strings + 1];
+                for (int i = 0; i <= strings; i++) {
+                    offsets[i] = in.readInt();
+                }
+                assertEquals(offsets[0], 0);
+                byte[] bytes = in.readAllBytes();
+                assertEquals(bytes.length, offsets[strings], "String bytes end the file");
+                int gamma = cells[2][2];
+                assertEquals(new String(bytes, offsets[gamma], offsets[gamma + 1] - offsets[gamma], StandardCharsets.UTF_8),
+                        "Gamma ü");
+            }
+
+            Book[] parsed = MapperRegistry.reader(Book[].class).readValue(json.toFile());
+            Snapshot snapshot = Snapshot.map(bin);
+            assertEquals(snapshot.getRowCount(), parsed.length);
+            for (int row = 0; row < parsed.length; row++) {
+                assertEquals(toBook(snapshot, row), parsed[row], "Row " + row);
+            }
+
+            // A JSON file newer than its snapshot gets it recompiled
+            Files.write(json, BOOKS.replace("Alpha", "Alpha 2").getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(json, FileTime.fromMillis(Files.getLastModifiedTime(bin).toMillis() + 2000));
+            assertTrue(TestDataCompiler.compileIfStale(directory, Dataset.BOOKS), "Stale snapshot is recompiled");
+            assertEquals(Snapshot.map(bin).getString(snapshot.column("title"), 0), "Alpha 2");
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static Book toBook(Snapshot snapshot, int row) {
+        return Book.builder()
+                .id(snapshot.getInt(snapshot.column("id"), row))
+                .pageCount(snapshot.getInt(snapshot.column("pageCount"), row))
+                .title(snapshot.getString(snapshot.column("title"), row))
+                .description(snapshot.getString(snapshot.column("description"), row))
+                .excerpt(snapshot.getString(snapshot.column("excerpt"), row))
+                .publishDate(snapshot.getString(snapshot.column("publishDate"), row))
+                .build();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> tree = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) tree.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
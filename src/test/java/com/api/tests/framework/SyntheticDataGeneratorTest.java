@@ -0,0 +1,86 @@
+package com.api.tests.framework;
+
+import com.api.tests.models.Author;
+import com.api.tests.models.Book;
+import com.api.tests.utils.JsonDataReader;
+import com.api.tests.utils.SyntheticDataGenerator;
+import com.api.tests.utils.TestDataGenerator;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    @Story("Synthetic Data")
+    @Description("Verify that generators with the same seed, or the same reseed key on another thread, produce the same data")
+    public void testSameSeedSameSequence() throws Exception {
+        SyntheticDataGenerator first = new SyntheticDataGenerator(42);
+        SyntheticDataGenerator second = new SyntheticDataGenerator(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.book(), second.book(), "Book " + i);
+            assertEquals(first.author(i), second.author(i), "Author " + i);
+        }
+        assertEquals(first.split().book(), second.split().book(), "Splits at the same position match");
+        assertNotEquals(new SyntheticDataGenerator(43).book(), new SyntheticDataGenerator(42).book());
+
+        // A reseeded thread's data depends on the key only, not on which thread asks
+        String key = "com.api.tests.BooksApiTest.testCreateRandomBook[3]";
+        TestDataGenerator.reseed(key);
+        Book here = TestDataGenerator.generateRandomBook();
+        Book there = CompletableFuture.supplyAsync(() -> {
+            TestDataGenerator.reseed(key);
+            return TestDataGenerator.generateRandomBook();
+        }).get(10, TimeUnit.SECONDS);
+        assertEquals(there, here);
+    }
+
+    @Test
+    @Story("Synthetic Data")
+    @Description("Verify that invalid books and authors break exactly the rule they report")
+    public void testInvalidDataBreaksOneRule() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        Set<String> reasons = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            JsonDataReader.InvalidTestData<Book> invalid = generator.invalidBook();
+            Book book = invalid.getTestData();
+            String reason = invalid.getExpectedError();
+            reasons.add(reason);
+            boolean blankTitle = book.getTitle().trim().isEmpty();
+            boolean negativePages = book.getPageCount() < 0;
+            if (reason.startsWith("Empty title")) {
+                assertTrue(blankTitle && !negativePages, book.toString());
+            } else {
+                assertEquals(reason, "Negative page count should be rejected");
+                assertTrue(negativePages && !blankTitle, book.toString());
+            }
+            assertNotNull(book.getPublishDate());
+
+            JsonDataReader.InvalidTestData<Author> invalidAuthor = generator.invalidAuthor();
+            Author author = invalidAuthor.getTestData();
+            reason = invalidAuthor.getExpectedError();
+            reasons.add(reason);
+            boolean emptyFirst = author.getFirstName().isEmpty();
+            boolean emptyLast = author.getLastName().isEmpty();
+            boolean badBook = author.getIdBook() <= 0;
+            if (reason.startsWith("Empty first name")) {
+                assertTrue(emptyFirst && !emptyLast && !badBook, author.toString());
+            } else if (reason.startsWith("Empty last name")) {
+                assertTrue(!emptyFirst && emptyLast && !badBook, author.toString());
+            } else {
+                assertEquals(reason, "Non-existent book id should be rejected");
+                assertTrue(!emptyFirst && !emptyLast && badBook, author.toString());
+            }
+        }
+        assertEquals(reasons.size(), 5, "Every rule gets broken: " + reasons);
+    }
+}
@@ -0,0 +1,68 @@
+package com.api.tests.framework;
+
+import com.api.tests.enums.ApiEndpoint;
+import com.api.tests.resilience.Throttle;
+import com.api.tests.resilience.TokenBucket;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+@Feature("Framework")
+public class ThrottleTest {
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @Story("Throttling")
+    @Description("Verify that the token bucket spaces out requests after its burst")
+    public void testTokenBucketRateLimit() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(100, 2, clock::get);
+
+        assertEquals(bucket.reserve(), 0L, "The burst goes out at once");
+        assertEquals(bucket.reserve(), 0L, "The burst goes out at once");
+        assertEquals(bucket.reserve(), 10 * MILLI, "The third request waits one 10 ms interval");
+        assertEquals(bucket.reserve(), 20 * MILLI, "Requests are spaced by the interval");
+        assertFalse(bucket.tryReserve(), "No slot is free right now");
+
+        // The next free slot is 30 ms in, and taking it leaves none for the same instant
+        clock.set(30 * MILLI);
+        assertTrue(bucket.tryReserve());
+        assertFalse(bucket.tryReserve());
+    }
+
+    @Test
+    @Story("Throttling")
+    @Description("Verify that a Retry-After pause holds back every slot, even on an unlimited bucket")
+    public void testTokenBucketPause() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket unlimited = new TokenBucket(0, 1, clock::get);
+        assertEquals(unlimited.reserve(), 0L);
+
+        unlimited.pauseUntil(1000 * MILLI);
+        assertEquals(unlimited.reserve(), 1000 * MILLI);
+        clock.set(400 * MILLI);
+        assertEquals(unlimited.reserve(), 600 * MILLI);
+        assertFalse(unlimited.tryReserve());
+        unlimited.pauseUntil(500 * MILLI);
+        assertEquals(unlimited.reserve(), 600 * MILLI, "An earlier pause doesn't shorten a later one");
+
+        clock.set(1000 * MILLI);
+        assertTrue(unlimited.tryReserve());
+    }
+
+    @Test
+    @Story("Throttling")
+    @Description("Verify that with no limits configured a permit is handed out straight away")
+    public void testUnlimitedThrottle() {
+        try (Throttle.Permit permit = Throttle.acquire(ApiEndpoint.AUTHORS)) {
+            assertNotNull(permit);
+        }
+        assertTrue(Throttle.acquireAsync(ApiEndpoint.AUTHORS).isDone());
+    }
+}